@@ -0,0 +1,93 @@
+package com.ibx.account.application.config;
+
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.infrastructure.messaging.AccountInvalidationBus;
+import com.ibx.account.infrastructure.repository.AccountRepositoryImpl;
+import com.ibx.account.infrastructure.repository.replica.AccountReplica;
+import com.ibx.account.infrastructure.repository.decorator.BatchingAccountRepository;
+import com.ibx.account.infrastructure.repository.decorator.CachingAccountRepository;
+import com.ibx.account.infrastructure.repository.decorator.CoalescingAccountRepository;
+import com.ibx.account.infrastructure.repository.decorator.NegativeLookupAccountRepository;
+import com.ibx.account.infrastructure.repository.decorator.ReplicaAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class AccountRepositoryConfiguration {
+
+  @Value("${app.account.batching.enabled:false}")
+  private boolean batchingEnabled;
+
+  @Value("${app.account.batching.max-batch-size:100}")
+  private int batchingMaxBatchSize;
+
+  @Value("${app.account.batching.max-wait:2ms}")
+  private Duration batchingMaxWait;
+
+  @Value("${app.account.coalescing.enabled:false}")
+  private boolean coalescingEnabled;
+
+  @Value("${app.account.cache.enabled:false}")
+  private boolean cacheEnabled;
+
+  @Value("${app.account.cache.maximum-size:10000}")
+  private long cacheMaximumSize;
+
+  @Value("${app.account.cache.time-to-live:1m}")
+  private Duration cacheTimeToLive;
+
+  @Value("${app.account.negative-cache.enabled:false}")
+  private boolean negativeCacheEnabled;
+
+  @Value("${app.account.negative-cache.maximum-size:100000}")
+  private long negativeCacheMaximumSize;
+
+  @Value("${app.account.negative-cache.time-to-live:5s}")
+  private Duration negativeCacheTimeToLive;
+
+  @Bean
+  @Primary
+  public AccountRepository accountRepository(final AccountRepositoryImpl accountRepositoryImpl,
+      final MeterRegistry meterRegistry,
+      final ObjectProvider<AccountReplica> accountReplicaProvider,
+      final AccountInvalidationBus accountInvalidationBus) {
+    AccountRepository accountRepository = accountRepositoryImpl;
+
+    if (batchingEnabled) {
+      accountRepository = new BatchingAccountRepository(accountRepository, meterRegistry,
+          batchingMaxBatchSize, batchingMaxWait);
+    }
+
+    if (coalescingEnabled) {
+      accountRepository = new CoalescingAccountRepository(accountRepository, meterRegistry);
+    }
+
+    if (cacheEnabled) {
+      final var cachingAccountRepository = new CachingAccountRepository(accountRepository,
+          meterRegistry, cacheMaximumSize, cacheTimeToLive);
+      accountInvalidationBus.subscribe(cachingAccountRepository::invalidateAll);
+      accountRepository = cachingAccountRepository;
+    }
+
+    if (negativeCacheEnabled) {
+      accountRepository = new NegativeLookupAccountRepository(accountRepository, meterRegistry,
+          negativeCacheMaximumSize, negativeCacheTimeToLive);
+    }
+
+    final var accountReplica = accountReplicaProvider.getIfAvailable();
+
+    if (Objects.nonNull(accountReplica)) {
+      accountRepository = new ReplicaAccountRepository(accountRepository, accountReplica,
+          meterRegistry);
+    }
+
+    return accountRepository;
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.ibx.account.application.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.ibx.account.application.model.AccountDto;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfiguration {
+
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer accountDtoCustomizer() {
+    return builder -> builder.mixIn(AccountDto.class, AccountDtoMixin.class);
+  }
+
+  @JsonInclude(Include.NON_NULL)
+  private abstract static class AccountDtoMixin {
+
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.ibx.account.application.config;
+
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+/**
+ * Account events are sent as byte arrays keyed by account id. The serializers are set here rather
+ * than through spring.kafka.producer, so no configuration source can swap them for ones that fail
+ * every send, while the rest of the producer settings still come from the configuration.
+ */
+@Configuration
+public class KafkaProducerConfiguration {
+
+  @Bean
+  public ProducerFactory<String, byte[]> accountEventProducerFactory(
+      final KafkaProperties kafkaProperties, final ObjectProvider<SslBundles> sslBundles) {
+    return new DefaultKafkaProducerFactory<>(
+        kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()),
+        new StringSerializer(), new ByteArraySerializer());
+  }
+
+  @Bean
+  public KafkaTemplate<String, byte[]> accountEventKafkaTemplate(
+      final ProducerFactory<String, byte[]> accountEventProducerFactory) {
+    return new KafkaTemplate<>(accountEventProducerFactory);
+  }
+
+}
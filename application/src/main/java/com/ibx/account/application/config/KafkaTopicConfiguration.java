@@ -0,0 +1,50 @@
+package com.ibx.account.application.config;
+
+import java.time.Duration;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfiguration {
+
+  @Bean
+  public NewTopic accountSnapshotTopic(
+      @Value("${app.kafka.topic.account-snapshot}") final String name,
+      @Value("${app.kafka.topic.account-snapshot-partitions:6}") final int partitions,
+      @Value("${app.kafka.topic.account-snapshot-replicas:1}") final int replicas) {
+    return TopicBuilder.name(name)
+        .partitions(partitions)
+        .replicas(replicas)
+        .compact()
+        .build();
+  }
+
+  @Bean
+  public NewTopic accountSnapshotControlTopic(
+      @Value("${app.kafka.topic.account-snapshot-control:${app.kafka.topic.account-snapshot}"
+          + "-control}") final String name,
+      @Value("${app.kafka.topic.account-snapshot-replicas:1}") final int replicas) {
+    return TopicBuilder.name(name)
+        .partitions(1)
+        .replicas(replicas)
+        .compact()
+        .build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.account.invalidation.transport", havingValue = "kafka")
+  public NewTopic accountInvalidationTopic(
+      @Value("${app.kafka.topic.account-invalidation}") final String name,
+      @Value("${app.kafka.topic.account-invalidation-retention:1h}") final Duration retention) {
+    return TopicBuilder.name(name)
+        .partitions(1)
+        .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(retention.toMillis()))
+        .build();
+  }
+
+}
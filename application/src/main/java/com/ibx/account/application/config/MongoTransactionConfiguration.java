@@ -0,0 +1,17 @@
+package com.ibx.account.application.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+
+@Configuration
+public class MongoTransactionConfiguration {
+
+  @Bean
+  public ReactiveMongoTransactionManager reactiveMongoTransactionManager(
+      final ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory) {
+    return new ReactiveMongoTransactionManager(reactiveMongoDatabaseFactory);
+  }
+
+}
@@ -1,16 +1,39 @@
 package com.ibx.account.application.controller;
 
 import com.ibx.account.application.api.AccountApi;
+import com.ibx.account.application.controller.mapper.AccountFieldsMapper;
 import com.ibx.account.application.controller.mapper.AccountRestMapper;
+import com.ibx.account.application.controller.mapper.ContinuationTokenMapper;
+import com.ibx.account.application.model.AccountChangeDto;
 import com.ibx.account.application.model.AccountDto;
+import com.ibx.account.application.model.AccountLookupDto;
+import com.ibx.account.application.model.BatchGetRequestDto;
+import com.ibx.account.application.model.BulkDeleteRequestDto;
+import com.ibx.account.application.model.BulkItemResultDto;
+import com.ibx.account.application.model.BulkUpdateRequestDto;
 import com.ibx.account.application.model.RegisterRequestDto;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.AccountLookup;
 import com.ibx.account.domain.usecase.AccountRegister;
+import com.ibx.account.domain.usecase.BulkAccountRegister;
+import com.ibx.account.domain.usecase.BulkDeleteAccounts;
+import com.ibx.account.domain.usecase.BulkUpdateAccounts;
 import com.ibx.account.domain.usecase.DeleteAccount;
+import com.ibx.account.domain.usecase.ExportAccounts;
+import com.ibx.account.domain.usecase.FindAccountChanges;
 import com.ibx.account.domain.usecase.FindAccountById;
+import com.ibx.account.domain.usecase.FindAccountsByIds;
 import com.ibx.account.domain.usecase.FindAllAccounts;
+import com.ibx.account.domain.usecase.SubscribeAccountChanges;
 import com.ibx.account.domain.usecase.UpdateAccount;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -23,22 +46,88 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class AccountController implements AccountApi {
 
+  private static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
   private final FindAllAccounts findAllAccounts;
 
+  private final ExportAccounts exportAccounts;
+
+  private final FindAccountChanges findAccountChanges;
+
+  private final SubscribeAccountChanges subscribeAccountChanges;
+
   private final AccountRegister accountRegister;
 
+  private final BulkAccountRegister bulkAccountRegister;
+
   private final FindAccountById findAccountById;
 
+  private final FindAccountsByIds findAccountsByIds;
+
   private final UpdateAccount updateAccount;
 
+  private final BulkUpdateAccounts bulkUpdateAccounts;
+
   private final DeleteAccount deleteAccount;
 
+  private final BulkDeleteAccounts bulkDeleteAccounts;
+
   private final AccountRestMapper accountRestMapper;
 
+  private final ContinuationTokenMapper continuationTokenMapper;
+
+  private final AccountFieldsMapper accountFieldsMapper;
+
+  @Override
+  public Mono<ResponseEntity<Flux<AccountDto>>> findAllAccounts(final Integer limit,
+      final String continuationToken, final List<String> fields,
+      final ServerWebExchange exchange) {
+    return Mono.defer(() -> {
+      final var accountFields = accountFieldsMapper.toAccountFields(fields);
+
+      return findAllAccounts.apply(continuationTokenMapper.toAccountId(continuationToken), limit,
+              accountFields)
+          .collectList()
+          .map(accounts -> new ResponseEntity<>(Flux.fromIterable(accounts.stream()
+              .map(account -> toAccountDto(account, accountFields))
+              .toList()), buildPageHeaders(accounts, limit), HttpStatus.OK));
+    });
+  }
+
   @Override
-  public Mono<ResponseEntity<Flux<AccountDto>>> findAllAccounts(final ServerWebExchange exchange) {
-    return Mono.just(new ResponseEntity<>(findAllAccounts.apply()
-        .map(accountRestMapper::mapAccountToInfrastructure), HttpStatus.OK));
+  public Mono<ResponseEntity<Flux<AccountDto>>> exportAccounts(final List<String> fields,
+      final ServerWebExchange exchange) {
+    return Mono.fromCallable(() -> accountFieldsMapper.toAccountFields(fields))
+        .map(accountFields -> new ResponseEntity<>(exportAccounts.apply(accountFields)
+            .map(account -> toAccountDto(account, accountFields)), HttpStatus.OK));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<AccountChangeDto>>> findAccountChanges(
+      final OffsetDateTime since, final ServerWebExchange exchange) {
+    return Mono.just(new ResponseEntity<>(findAccountChanges.apply(since.toInstant())
+        .map(accountRestMapper::mapAccountChangeToInfrastructure), HttpStatus.OK));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<AccountChangeDto>>> subscribeAccountChanges(
+      final ServerWebExchange exchange) {
+    return Mono.just(new ResponseEntity<>(subscribeAccountChanges.apply()
+        .map(accountRestMapper::mapAccountChangeToInfrastructure), HttpStatus.OK));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<AccountLookupDto>>> batchGetAccounts(
+      final Mono<BatchGetRequestDto> batchGetRequestDto, final List<String> fields,
+      final ServerWebExchange exchange) {
+    return Mono.defer(() -> {
+      final var accountFields = accountFieldsMapper.toAccountFields(fields);
+
+      return batchGetRequestDto.map(request -> new ResponseEntity<>(findAccountsByIds
+          .apply(request.getIds(), accountFields)
+          .map(accountLookup -> toAccountLookupDto(accountLookup, accountFields)),
+          HttpStatus.OK));
+    });
   }
 
   @Override
@@ -52,12 +141,24 @@ public class AccountController implements AccountApi {
             HttpStatus.CREATED));
   }
 
+  @Override
+  public Mono<ResponseEntity<Flux<BulkItemResultDto>>> bulkAccountRegister(
+      final Flux<RegisterRequestDto> registerRequestDto, final ServerWebExchange exchange) {
+    return Mono.just(new ResponseEntity<>(bulkAccountRegister
+        .apply(registerRequestDto.map(accountRestMapper::mapRegisterRequestToDomain))
+        .map(accountRestMapper::mapBulkItemResultToInfrastructure), HttpStatus.OK));
+  }
+
   @Override
   public Mono<ResponseEntity<AccountDto>> findAccountById(final String accountId,
-      final ServerWebExchange exchange) {
-    return findAccountById.apply(accountId)
-        .map(account -> new ResponseEntity<>(accountRestMapper.mapAccountToInfrastructure(account),
-            HttpStatus.OK));
+      final List<String> fields, final ServerWebExchange exchange) {
+    return Mono.defer(() -> {
+      final var accountFields = accountFieldsMapper.toAccountFields(fields);
+
+      return findAccountById.apply(accountId, accountFields)
+          .map(account -> new ResponseEntity<>(toAccountDto(account, accountFields),
+              HttpStatus.OK));
+    });
   }
 
   @Override
@@ -70,10 +171,53 @@ public class AccountController implements AccountApi {
             HttpStatus.OK));
   }
 
+  @Override
+  public Mono<ResponseEntity<Flux<BulkItemResultDto>>> bulkUpdateAccounts(
+      final Flux<BulkUpdateRequestDto> bulkUpdateRequestDto, final ServerWebExchange exchange) {
+    return Mono.just(new ResponseEntity<>(bulkUpdateAccounts
+        .apply(bulkUpdateRequestDto.map(accountRestMapper::mapBulkUpdateRequestToDomain))
+        .map(accountRestMapper::mapBulkItemResultToInfrastructure), HttpStatus.OK));
+  }
+
   @Override
   public Mono<ResponseEntity<Void>> deleteAccount(final String accountId,
       final ServerWebExchange exchange) {
     return deleteAccount.apply(accountId)
         .thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
   }
+
+  @Override
+  public Mono<ResponseEntity<Flux<BulkItemResultDto>>> bulkDeleteAccounts(
+      final Mono<BulkDeleteRequestDto> bulkDeleteRequestDto, final ServerWebExchange exchange) {
+    return bulkDeleteRequestDto.map(request -> new ResponseEntity<>(bulkDeleteAccounts
+        .apply(request.getIds())
+        .map(accountRestMapper::mapBulkItemResultToInfrastructure), HttpStatus.OK));
+  }
+
+  private AccountDto toAccountDto(final Account account, final Set<AccountField> fields) {
+    return accountFieldsMapper.trim(accountRestMapper.mapAccountToInfrastructure(account), fields);
+  }
+
+  private AccountLookupDto toAccountLookupDto(final AccountLookup accountLookup,
+      final Set<AccountField> fields) {
+    final var accountLookupDto = accountRestMapper.mapAccountLookupToInfrastructure(
+        accountLookup);
+
+    if (Objects.nonNull(accountLookupDto.getAccount())) {
+      accountFieldsMapper.trim(accountLookupDto.getAccount(), fields);
+    }
+
+    return accountLookupDto;
+  }
+
+  private HttpHeaders buildPageHeaders(final List<Account> accounts, final int limit) {
+    final var headers = new HttpHeaders();
+
+    if (accounts.size() == limit) {
+      headers.set(CONTINUATION_TOKEN_HEADER, continuationTokenMapper.toContinuationToken(
+          accounts.get(accounts.size() - 1).id()));
+    }
+
+    return headers;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.ibx.account.application.controller.mapper;
+
+import com.ibx.account.application.model.AccountDto;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Translates the {@code fields} query parameter into account fields and trims responses down to
+ * them. Trimmed properties are left null and skipped when the response is written.
+ */
+@Component
+public class AccountFieldsMapper {
+
+  public Set<AccountField> toAccountFields(final List<String> fields) {
+    if (Objects.isNull(fields) || fields.isEmpty()) {
+      return AccountField.ALL;
+    }
+
+    final var accountFields = EnumSet.noneOf(AccountField.class);
+    fields.forEach(field -> accountFields.add(toAccountField(field)));
+
+    return accountFields;
+  }
+
+  public AccountDto trim(final AccountDto accountDto, final Set<AccountField> fields) {
+    if (!fields.contains(AccountField.ID)) {
+      accountDto.setId(null);
+    }
+
+    if (!fields.contains(AccountField.USERNAME)) {
+      accountDto.setUsername(null);
+    }
+
+    if (!fields.contains(AccountField.FIRST_NAME)) {
+      accountDto.setFirstName(null);
+    }
+
+    if (!fields.contains(AccountField.LAST_NAME)) {
+      accountDto.setLastName(null);
+    }
+
+    return accountDto;
+  }
+
+  private AccountField toAccountField(final String field) {
+    return Arrays.stream(AccountField.values())
+        .filter(accountField -> accountField.getFieldName().equals(field))
+        .findFirst()
+        .orElseThrow(() -> new AccountValidationException(ErrorsEnum.INVALID_ACCOUNT_FIELD));
+  }
+
+}
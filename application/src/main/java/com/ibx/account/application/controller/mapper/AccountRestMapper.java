@@ -1,15 +1,36 @@
 package com.ibx.account.application.controller.mapper;
 
+import com.ibx.account.application.model.AccountChangeDto;
 import com.ibx.account.application.model.AccountDto;
+import com.ibx.account.application.model.AccountLookupDto;
+import com.ibx.account.application.model.BulkItemResultDto;
+import com.ibx.account.application.model.BulkUpdateRequestDto;
 import com.ibx.account.application.model.RegisterRequestDto;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountLookup;
+import com.ibx.account.domain.model.BulkItemResult;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface AccountRestMapper {
 
+  @Mapping(target = "updatedAt", ignore = true)
   Account mapRegisterRequestToDomain(final RegisterRequestDto registerRequestDto);
 
+  @Mapping(target = "updatedAt", ignore = true)
+  Account mapBulkUpdateRequestToDomain(final BulkUpdateRequestDto bulkUpdateRequestDto);
+
   AccountDto mapAccountToInfrastructure(final Account account);
 
+  AccountLookupDto mapAccountLookupToInfrastructure(final AccountLookup accountLookup);
+
+  @Mapping(target = "changedAt",
+      expression = "java(accountChange.changedAt().atOffset(java.time.ZoneOffset.UTC))")
+  AccountChangeDto mapAccountChangeToInfrastructure(final AccountChange accountChange);
+
+  @Mapping(target = "code", source = "error.code")
+  BulkItemResultDto mapBulkItemResultToInfrastructure(final BulkItemResult bulkItemResult);
+
 }
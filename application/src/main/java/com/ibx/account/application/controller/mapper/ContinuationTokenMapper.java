@@ -0,0 +1,42 @@
+package com.ibx.account.application.controller.mapper;
+
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes the last account id of a page as an opaque token, so clients never depend on the
+ * underlying keyset used to resume the listing.
+ */
+@Component
+public class ContinuationTokenMapper {
+
+  public String toContinuationToken(final String accountId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(accountId.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public String toAccountId(final String continuationToken) {
+    if (Objects.isNull(continuationToken)) {
+      return null;
+    }
+
+    try {
+      final var accountId = new String(Base64.getUrlDecoder().decode(continuationToken),
+          StandardCharsets.UTF_8);
+
+      if (accountId.isBlank()) {
+        throw new IllegalArgumentException("Empty continuation token");
+      }
+
+      return accountId;
+    } catch (IllegalArgumentException e) {
+      throw new AccountValidationException(
+          ErrorsEnum.FIND_ALL_ACCOUNTS_INVALID_CONTINUATION_TOKEN);
+    }
+  }
+
+}
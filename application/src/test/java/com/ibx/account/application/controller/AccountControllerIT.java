@@ -1,9 +1,17 @@
 package com.ibx.account.application.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import com.ibx.account.application.controller.utils.MongoDataUtils;
+import com.ibx.account.application.model.AccountDto;
+import com.ibx.account.application.model.BatchGetRequestDto;
+import com.ibx.account.application.model.BulkDeleteRequestDto;
+import com.ibx.account.application.model.BulkUpdateRequestDto;
 import com.ibx.account.application.model.RegisterRequestDto;
 import com.ibx.account.domain.model.errors.ErrorsEnum;
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +23,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 @SpringBootTest(properties = "spring.profiles.active=test")
 class AccountControllerIT {
@@ -34,6 +44,18 @@ class AccountControllerIT {
 
   private static final String ACCOUNT_BASE_PATH = "http://localhost:8090/ibx/1/account";
 
+  private static final String ACCOUNT_PATH = "/ibx/1/account";
+
+  private static final String ACCOUNT_EXPORT_PATH = "/ibx/1/account/export";
+
+  private static final String ACCOUNT_BATCH_GET_PATH = "/ibx/1/account/batch-get";
+
+  private static final String ACCOUNT_BULK_PATH = "/ibx/1/account/bulk";
+
+  private static final String ACCOUNT_BULK_DELETE_PATH = "/ibx/1/account/bulk-delete";
+
+  private static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
   private static final String ACCOUNT_WITH_ACCOUNT_ID_BASE_PATH = "http://localhost:8090/ibx/1/account/{accountId}";
 
   private static WebTestClient webTestClient;
@@ -72,6 +94,205 @@ class AccountControllerIT {
         .jsonPath("$[1].lastName").isEqualTo("LastName2");
   }
 
+  @Test
+  @DisplayName("Find all accounts when limit reached should return continuation token")
+  void findAllAccounts_whenLimitReached_shouldReturnContinuationToken() {
+    final String continuationToken = webTestClient.get()
+        .uri(uriBuilder -> uriBuilder.path(ACCOUNT_PATH).queryParam("limit", 1).build())
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().exists(CONTINUATION_TOKEN_HEADER)
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(1)
+        .jsonPath("$[0].id").isEqualTo(ACCOUNT_ID_01)
+        .returnResult()
+        .getResponseHeaders()
+        .getFirst(CONTINUATION_TOKEN_HEADER);
+
+    webTestClient.get()
+        .uri(uriBuilder -> uriBuilder.path(ACCOUNT_PATH)
+            .queryParam("limit", 1)
+            .queryParam("continuationToken", continuationToken)
+            .build())
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(1)
+        .jsonPath("$[0].id").isEqualTo(ACCOUNT_ID_02);
+  }
+
+  @Test
+  @DisplayName("Find all accounts when invalid limit should return expected error")
+  void findAllAccounts_whenInvalidLimit_shouldReturnExpectedError() {
+    webTestClient.get()
+        .uri(uriBuilder -> uriBuilder.path(ACCOUNT_PATH).queryParam("limit", 0).build())
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo(ErrorsEnum.FIND_ALL_ACCOUNTS_INVALID_LIMIT.getCode());
+  }
+
+  @Test
+  @DisplayName("Find all accounts when invalid continuation token should return expected error")
+  void findAllAccounts_whenInvalidContinuationToken_shouldReturnExpectedError() {
+    webTestClient.get()
+        .uri(uriBuilder -> uriBuilder.path(ACCOUNT_PATH)
+            .queryParam("continuationToken", "%%%")
+            .build())
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.code")
+        .isEqualTo(ErrorsEnum.FIND_ALL_ACCOUNTS_INVALID_CONTINUATION_TOKEN.getCode());
+  }
+
+  @Test
+  @DisplayName("Export accounts when ndjson should stream all accounts")
+  void exportAccounts_whenNdjson_shouldStreamAllAccounts() {
+    final Flux<AccountDto> result = webTestClient.get().uri(ACCOUNT_EXPORT_PATH)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .returnResult(AccountDto.class)
+        .getResponseBody();
+
+    StepVerifier.create(result)
+        .expectNextMatches(accountDto -> ACCOUNT_ID_01.equals(accountDto.getId()))
+        .expectNextMatches(accountDto -> ACCOUNT_ID_02.equals(accountDto.getId()))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Export accounts when event stream should stream all accounts")
+  void exportAccounts_whenEventStream_shouldStreamAllAccounts() {
+    final Flux<AccountDto> result = webTestClient.get().uri(ACCOUNT_EXPORT_PATH)
+        .accept(MediaType.TEXT_EVENT_STREAM)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+        .returnResult(AccountDto.class)
+        .getResponseBody();
+
+    StepVerifier.create(result)
+        .expectNextCount(2)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Batch get accounts when some ids missing should report missing ids")
+  void batchGetAccounts_whenSomeIdsMissing_shouldReportMissingIds() {
+    var missingId = UUID.randomUUID().toString();
+    var batchGetRequestDto = new BatchGetRequestDto();
+    batchGetRequestDto.setIds(List.of(ACCOUNT_ID_02, missingId, ACCOUNT_ID_01));
+
+    webTestClient.post().uri(ACCOUNT_BATCH_GET_PATH)
+        .accept(MediaType.APPLICATION_JSON)
+        .bodyValue(batchGetRequestDto)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(3)
+        .jsonPath("$[?(@.found == true)].id")
+        .value(ids -> assertEquals(Set.of(ACCOUNT_ID_01, ACCOUNT_ID_02),
+            Set.copyOf((List<?>) ids)))
+        .jsonPath("$[2].id").isEqualTo(missingId)
+        .jsonPath("$[2].found").isEqualTo(false);
+  }
+
+  @Test
+  @DisplayName("Bulk account register when mixed requests should return result per request")
+  void bulkAccountRegister_whenMixedRequests_shouldReturnResultPerRequest() {
+    var newAccount = getRegisterRequestDto("BulkUsername", ACCOUNT_PASSWORD,
+        ACCOUNT_FIRST_NAME, ACCOUNT_LAST_NAME);
+    var existingAccount = getRegisterRequestDto("Username1", ACCOUNT_PASSWORD,
+        ACCOUNT_FIRST_NAME, ACCOUNT_LAST_NAME);
+    var invalidAccount = getRegisterRequestDto("BulkUsername2", ACCOUNT_PASSWORD, null,
+        ACCOUNT_LAST_NAME);
+
+    webTestClient.post().uri(ACCOUNT_BULK_PATH)
+        .accept(MediaType.APPLICATION_JSON)
+        .bodyValue(List.of(newAccount, existingAccount, invalidAccount))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(3)
+        .jsonPath("$[?(@.index == 0)].id").isNotEmpty()
+        .jsonPath("$[?(@.index == 1)].code")
+        .value(codes -> assertEquals(
+            List.of(ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS.getCode()), codes))
+        .jsonPath("$[?(@.index == 2)].code")
+        .value(codes -> assertEquals(
+            List.of(ErrorsEnum.ACCOUNT_REGISTER_FIRST_NAME_REQUIRED.getCode()), codes));
+  }
+
+  @Test
+  @DisplayName("Bulk update accounts when mixed requests should return result per request")
+  void bulkUpdateAccounts_whenMixedRequests_shouldReturnResultPerRequest() {
+    var missingId = UUID.randomUUID().toString();
+
+    webTestClient.put().uri(ACCOUNT_BULK_PATH)
+        .accept(MediaType.APPLICATION_JSON)
+        .bodyValue(List.of(
+            getBulkUpdateRequestDto(ACCOUNT_ID_01, "BulkUsername"),
+            getBulkUpdateRequestDto(ACCOUNT_ID_02, "BulkUsername"),
+            getBulkUpdateRequestDto(missingId, "BulkUsername2")))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(3)
+        .jsonPath("$[?(@.index == 0)].id")
+        .value(ids -> assertEquals(List.of(ACCOUNT_ID_01), ids))
+        .jsonPath("$[?(@.index == 1)].code")
+        .value(codes -> assertEquals(
+            List.of(ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS.getCode()), codes))
+        .jsonPath("$[?(@.index == 2)].code")
+        .value(codes -> assertEquals(List.of(ErrorsEnum.ACCOUNT_NOT_FOUND.getCode()), codes));
+  }
+
+  @Test
+  @DisplayName("Bulk delete accounts when some ids missing should report missing ids")
+  void bulkDeleteAccounts_whenSomeIdsMissing_shouldReportMissingIds() {
+    var missingId = UUID.randomUUID().toString();
+    var bulkDeleteRequestDto = new BulkDeleteRequestDto();
+    bulkDeleteRequestDto.setIds(List.of(ACCOUNT_ID_01, missingId));
+
+    webTestClient.post().uri(ACCOUNT_BULK_DELETE_PATH)
+        .accept(MediaType.APPLICATION_JSON)
+        .bodyValue(bulkDeleteRequestDto)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(2)
+        .jsonPath("$[0].id").isEqualTo(ACCOUNT_ID_01)
+        .jsonPath("$[0].code").doesNotExist()
+        .jsonPath("$[1].id").isEqualTo(missingId)
+        .jsonPath("$[1].code").isEqualTo(ErrorsEnum.ACCOUNT_NOT_FOUND.getCode());
+
+    webTestClient.get().uri(ACCOUNT_WITH_ACCOUNT_ID_BASE_PATH, ACCOUNT_ID_01)
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  @Test
+  @DisplayName("Batch get accounts when no ids should return expected error")
+  void batchGetAccounts_whenNoIds_shouldReturnExpectedError() {
+    var batchGetRequestDto = new BatchGetRequestDto();
+    batchGetRequestDto.setIds(List.of());
+
+    webTestClient.post().uri(ACCOUNT_BATCH_GET_PATH)
+        .accept(MediaType.APPLICATION_JSON)
+        .bodyValue(batchGetRequestDto)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo(ErrorsEnum.FIND_ACCOUNTS_BY_IDS_INVALID_SIZE.getCode());
+  }
+
   @Test
   @DisplayName("Account register when null username should return expected error")
   void accountRegister_whenNullUsername_shouldReturnExpectedError() {
@@ -197,6 +418,32 @@ class AccountControllerIT {
         .jsonPath("$.lastName").isEqualTo("LastName1");
   }
 
+  @Test
+  @DisplayName("Find account by id when fields should return only requested fields")
+  void findAccountById_whenFields_shouldReturnOnlyRequestedFields() {
+    webTestClient.get().uri(ACCOUNT_PATH + "/{accountId}?fields=id,username", ACCOUNT_ID_01)
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.id").isEqualTo(ACCOUNT_ID_01)
+        .jsonPath("$.username").isEqualTo("Username1")
+        .jsonPath("$.firstName").doesNotExist()
+        .jsonPath("$.lastName").doesNotExist();
+  }
+
+  @Test
+  @DisplayName("Find all accounts when unknown field should return expected error")
+  void findAllAccounts_whenUnknownField_shouldReturnExpectedError() {
+    webTestClient.get()
+        .uri(uriBuilder -> uriBuilder.path(ACCOUNT_PATH).queryParam("fields", "password").build())
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo(ErrorsEnum.INVALID_ACCOUNT_FIELD.getCode());
+  }
+
   @Test
   @DisplayName("Update account when null username should return expected error")
   void updateAccount_whenNullUsername_shouldReturnExpectedError() {
@@ -333,6 +580,16 @@ class AccountControllerIT {
         .expectStatus().isNoContent();
   }
 
+  private BulkUpdateRequestDto getBulkUpdateRequestDto(final String id, final String username) {
+    final var bulkUpdateRequestDto = new BulkUpdateRequestDto();
+    bulkUpdateRequestDto.setId(id);
+    bulkUpdateRequestDto.setUsername(username);
+    bulkUpdateRequestDto.setPassword(ACCOUNT_PASSWORD);
+    bulkUpdateRequestDto.setFirstName(ACCOUNT_FIRST_NAME);
+    bulkUpdateRequestDto.setLastName(ACCOUNT_LAST_NAME);
+    return bulkUpdateRequestDto;
+  }
+
   private RegisterRequestDto getRegisterRequestDto(final String username, final String password,
       final String firstName, final String lastName) {
     final var registerRequestDto = new RegisterRequestDto();
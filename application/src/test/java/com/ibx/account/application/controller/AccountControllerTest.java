@@ -1,5 +1,6 @@
 package com.ibx.account.application.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
@@ -8,24 +9,52 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.ibx.account.application.controller.mapper.AccountFieldsMapper;
 import com.ibx.account.application.controller.mapper.AccountRestMapper;
+import com.ibx.account.application.controller.mapper.ContinuationTokenMapper;
+import com.ibx.account.application.model.AccountChangeDto;
 import com.ibx.account.application.model.AccountDto;
+import com.ibx.account.application.model.AccountLookupDto;
+import com.ibx.account.application.model.BatchGetRequestDto;
+import com.ibx.account.application.model.BulkDeleteRequestDto;
+import com.ibx.account.application.model.BulkItemResultDto;
+import com.ibx.account.application.model.BulkUpdateRequestDto;
 import com.ibx.account.application.model.RegisterRequestDto;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.AccountLookup;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountValidationException;
 import com.ibx.account.domain.usecase.AccountRegister;
+import com.ibx.account.domain.usecase.BulkAccountRegister;
+import com.ibx.account.domain.usecase.BulkDeleteAccounts;
+import com.ibx.account.domain.usecase.BulkUpdateAccounts;
 import com.ibx.account.domain.usecase.DeleteAccount;
+import com.ibx.account.domain.usecase.ExportAccounts;
+import com.ibx.account.domain.usecase.FindAccountChanges;
 import com.ibx.account.domain.usecase.FindAccountById;
+import com.ibx.account.domain.usecase.FindAccountsByIds;
 import com.ibx.account.domain.usecase.FindAllAccounts;
+import com.ibx.account.domain.usecase.SubscribeAccountChanges;
 import com.ibx.account.domain.usecase.UpdateAccount;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -34,24 +63,53 @@ import reactor.test.StepVerifier;
 @ExtendWith(MockitoExtension.class)
 class AccountControllerTest {
 
+  private static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
   @Mock
   private FindAllAccounts findAllAccounts;
 
+  @Mock
+  private ExportAccounts exportAccounts;
+
+  @Mock
+  private FindAccountChanges findAccountChanges;
+
+  @Mock
+  private SubscribeAccountChanges subscribeAccountChanges;
+
   @Mock
   private AccountRegister accountRegister;
 
+  @Mock
+  private BulkAccountRegister bulkAccountRegister;
+
   @Mock
   private FindAccountById findAccountById;
 
+  @Mock
+  private FindAccountsByIds findAccountsByIds;
+
   @Mock
   private UpdateAccount updateAccount;
 
+  @Mock
+  private BulkUpdateAccounts bulkUpdateAccounts;
+
   @Mock
   private DeleteAccount deleteAccount;
 
+  @Mock
+  private BulkDeleteAccounts bulkDeleteAccounts;
+
   @Mock
   private AccountRestMapper accountRestMapper;
 
+  @Mock
+  private ContinuationTokenMapper continuationTokenMapper;
+
+  @Spy
+  private AccountFieldsMapper accountFieldsMapper;
+
   @InjectMocks
   private AccountController accountController;
 
@@ -61,17 +119,217 @@ class AccountControllerTest {
     var serverWebExchange = mock(ServerWebExchange.class);
     var account = new Account(UUID.randomUUID().toString(), "username", "password", "firstName",
         "lastName");
+    var accountDto = new AccountDto();
     var accountFlux = Flux.just(account);
 
-    when(findAllAccounts.apply()).thenReturn(accountFlux);
+    when(continuationTokenMapper.toAccountId(null)).thenReturn(null);
+    when(findAllAccounts.apply(null, 10, AccountField.ALL)).thenReturn(accountFlux);
+    when(accountRestMapper.mapAccountToInfrastructure(account)).thenReturn(accountDto);
+
+    var result = accountController.findAllAccounts(10, null, null, serverWebExchange);
+
+    StepVerifier.create(result)
+        .expectNextMatches(accountsResponseEntity ->
+            accountsResponseEntity.getStatusCode().equals(HttpStatusCode.valueOf(200))
+                && !accountsResponseEntity.getHeaders().containsKey(CONTINUATION_TOKEN_HEADER))
+        .verifyComplete();
+
+    verify(findAllAccounts, only()).apply(null, 10, AccountField.ALL);
+    verify(continuationTokenMapper, only()).toAccountId(null);
+  }
+
+  @Test
+  @DisplayName("Find all accounts when full page should return continuation token")
+  void findAllAccounts_whenFullPage_shouldReturnContinuationToken() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var continuationToken = "continuationToken";
+    var nextContinuationToken = "nextContinuationToken";
+    var after = UUID.randomUUID().toString();
+    var account = new Account(UUID.randomUUID().toString(), "username", "password", "firstName",
+        "lastName");
+    var accountDto = new AccountDto();
+    accountDto.setId(account.id());
+
+    when(continuationTokenMapper.toAccountId(continuationToken)).thenReturn(after);
+    when(findAllAccounts.apply(after, 1, AccountField.ALL)).thenReturn(Flux.just(account));
+    when(accountRestMapper.mapAccountToInfrastructure(account)).thenReturn(accountDto);
+    when(continuationTokenMapper.toContinuationToken(account.id()))
+        .thenReturn(nextContinuationToken);
+
+    var result = accountController.findAllAccounts(1, continuationToken, null,
+        serverWebExchange);
+
+    StepVerifier.create(result)
+        .expectNextMatches(accountsResponseEntity ->
+            accountsResponseEntity.getStatusCode().equals(HttpStatusCode.valueOf(200))
+                && nextContinuationToken.equals(
+                accountsResponseEntity.getHeaders().getFirst(CONTINUATION_TOKEN_HEADER)))
+        .verifyComplete();
+
+    verify(findAllAccounts, only()).apply(after, 1, AccountField.ALL);
+    verify(continuationTokenMapper, times(1)).toAccountId(continuationToken);
+    verify(continuationTokenMapper, times(1)).toContinuationToken(account.id());
+    verifyNoMoreInteractions(continuationTokenMapper);
+  }
+
+  @Test
+  @DisplayName("Find all accounts when invalid continuation token should return expected error")
+  void findAllAccounts_whenInvalidContinuationToken_shouldReturnExpectedError() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var continuationToken = "continuationToken";
+
+    when(continuationTokenMapper.toAccountId(continuationToken)).thenThrow(
+        new AccountValidationException(
+            ErrorsEnum.FIND_ALL_ACCOUNTS_INVALID_CONTINUATION_TOKEN));
+
+    var result = accountController.findAllAccounts(10, continuationToken, null,
+        serverWebExchange);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verify(continuationTokenMapper, only()).toAccountId(continuationToken);
+    verifyNoInteractions(findAllAccounts);
+  }
+
+  @Test
+  @DisplayName("Export accounts when export accounts should stream all accounts")
+  void exportAccounts_whenExportAccounts_shouldStreamAllAccounts() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var account = new Account(UUID.randomUUID().toString(), "username", "password", "firstName",
+        "lastName");
+    var accountDto = new AccountDto();
+
+    when(exportAccounts.apply(AccountField.ALL)).thenReturn(Flux.just(account));
+    when(accountRestMapper.mapAccountToInfrastructure(account)).thenReturn(accountDto);
 
-    var result = accountController.findAllAccounts(serverWebExchange);
+    var result = accountController.exportAccounts(null, serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
 
     StepVerifier.create(result)
-        .expectNextCount(1)
+        .expectNext(accountDto)
         .verifyComplete();
 
-    verify(findAllAccounts, only()).apply();
+    verify(exportAccounts, only()).apply(AccountField.ALL);
+    verify(accountRestMapper, only()).mapAccountToInfrastructure(account);
+  }
+
+  @Test
+  @DisplayName("Export accounts when fields given should stream only those fields")
+  void exportAccounts_whenFieldsGiven_shouldStreamOnlyThoseFields() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var account = new Account(UUID.randomUUID().toString(), "username", null, null, null);
+    var accountDto = new AccountDto();
+    accountDto.setId(account.id());
+    accountDto.setUsername(account.username());
+    var fields = Set.of(AccountField.USERNAME);
+
+    when(exportAccounts.apply(fields)).thenReturn(Flux.just(account));
+    when(accountRestMapper.mapAccountToInfrastructure(account)).thenReturn(accountDto);
+
+    var result = accountController.exportAccounts(List.of("username"), serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNextMatches(exportedAccountDto -> exportedAccountDto.getId() == null
+            && "username".equals(exportedAccountDto.getUsername()))
+        .verifyComplete();
+
+    verify(exportAccounts, only()).apply(fields);
+  }
+
+  @Test
+  @DisplayName("Export accounts when invalid field should return expected error")
+  void exportAccounts_whenInvalidField_shouldReturnExpectedError() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+
+    var result = accountController.exportAccounts(List.of("password"), serverWebExchange);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(exportAccounts);
+  }
+
+  @Test
+  @DisplayName("Find account changes when changes exist should stream them")
+  void findAccountChanges_whenChangesExist_shouldStreamThem() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var since = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    var accountChange = AccountChange.deleted(UUID.randomUUID().toString(), Instant.now());
+    var accountChangeDto = new AccountChangeDto();
+
+    when(findAccountChanges.apply(since.toInstant())).thenReturn(Flux.just(accountChange));
+    when(accountRestMapper.mapAccountChangeToInfrastructure(accountChange))
+        .thenReturn(accountChangeDto);
+
+    var result = accountController.findAccountChanges(since, serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNext(accountChangeDto)
+        .verifyComplete();
+
+    verify(findAccountChanges, only()).apply(since.toInstant());
+    verify(accountRestMapper, only()).mapAccountChangeToInfrastructure(accountChange);
+  }
+
+  @Test
+  @DisplayName("Subscribe account changes when changes published should push them")
+  void subscribeAccountChanges_whenChangesPublished_shouldPushThem() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var accountChange = AccountChange.deleted(UUID.randomUUID().toString(), Instant.now());
+    var accountChangeDto = new AccountChangeDto();
+
+    when(subscribeAccountChanges.apply()).thenReturn(Flux.just(accountChange));
+    when(accountRestMapper.mapAccountChangeToInfrastructure(accountChange))
+        .thenReturn(accountChangeDto);
+
+    var result = accountController.subscribeAccountChanges(serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNext(accountChangeDto)
+        .verifyComplete();
+
+    verify(subscribeAccountChanges, only()).apply();
+    verify(accountRestMapper, only()).mapAccountChangeToInfrastructure(accountChange);
+  }
+
+  @Test
+  @DisplayName("Batch get accounts when find accounts by ids should stream lookups")
+  void batchGetAccounts_whenFindAccountsByIds_shouldStreamLookups() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var missingId = UUID.randomUUID().toString();
+    var account = new Account(UUID.randomUUID().toString(), "username", null, "firstName",
+        "lastName");
+    var batchGetRequestDto = new BatchGetRequestDto();
+    batchGetRequestDto.setIds(List.of(account.id(), missingId));
+    var foundLookup = AccountLookup.of(account);
+    var missingLookup = AccountLookup.missing(missingId);
+    var foundLookupDto = new AccountLookupDto();
+    foundLookupDto.setAccount(new AccountDto());
+    var missingLookupDto = new AccountLookupDto();
+
+    when(findAccountsByIds.apply(batchGetRequestDto.getIds(), AccountField.ALL))
+        .thenReturn(Flux.just(foundLookup, missingLookup));
+    when(accountRestMapper.mapAccountLookupToInfrastructure(foundLookup))
+        .thenReturn(foundLookupDto);
+    when(accountRestMapper.mapAccountLookupToInfrastructure(missingLookup))
+        .thenReturn(missingLookupDto);
+
+    var result = accountController.batchGetAccounts(Mono.just(batchGetRequestDto), null,
+            serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNext(foundLookupDto)
+        .expectNext(missingLookupDto)
+        .verifyComplete();
+
+    verify(findAccountsByIds, only()).apply(batchGetRequestDto.getIds(), AccountField.ALL);
   }
 
   @Test
@@ -105,6 +363,90 @@ class AccountControllerTest {
     verifyNoMoreInteractions(accountRestMapper);
   }
 
+  @Test
+  @DisplayName("Bulk account register when bulk account register should stream results")
+  void bulkAccountRegister_whenBulkAccountRegister_shouldStreamResults() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var registerRequest = new RegisterRequestDto();
+    var accountRequest = new Account(null, "username", "password", "firstName", "lastName");
+    var bulkItemResult = BulkItemResult.created(0, UUID.randomUUID().toString(),
+        Instant.now());
+    var bulkItemResultDto = new BulkItemResultDto();
+
+    when(accountRestMapper.mapRegisterRequestToDomain(registerRequest)).thenReturn(accountRequest);
+    when(bulkAccountRegister.apply(any())).thenAnswer(invocation ->
+        invocation.<Flux<Account>>getArgument(0).map(account -> bulkItemResult));
+    when(accountRestMapper.mapBulkItemResultToInfrastructure(bulkItemResult))
+        .thenReturn(bulkItemResultDto);
+
+    var result = accountController.bulkAccountRegister(Flux.just(registerRequest),
+            serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNext(bulkItemResultDto)
+        .verifyComplete();
+
+    verify(accountRestMapper, times(1)).mapRegisterRequestToDomain(registerRequest);
+    verify(accountRestMapper, times(1)).mapBulkItemResultToInfrastructure(bulkItemResult);
+    verifyNoMoreInteractions(accountRestMapper);
+  }
+
+  @Test
+  @DisplayName("Bulk delete accounts when bulk delete accounts should stream results")
+  void bulkDeleteAccounts_whenBulkDeleteAccounts_shouldStreamResults() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var accountId = UUID.randomUUID().toString();
+    var bulkDeleteRequestDto = new BulkDeleteRequestDto();
+    bulkDeleteRequestDto.setIds(List.of(accountId));
+    var bulkItemResult = new BulkItemResult(0, accountId, null);
+    var bulkItemResultDto = new BulkItemResultDto();
+
+    when(bulkDeleteAccounts.apply(List.of(accountId))).thenReturn(Flux.just(bulkItemResult));
+    when(accountRestMapper.mapBulkItemResultToInfrastructure(bulkItemResult))
+        .thenReturn(bulkItemResultDto);
+
+    var result = accountController.bulkDeleteAccounts(Mono.just(bulkDeleteRequestDto),
+            serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNext(bulkItemResultDto)
+        .verifyComplete();
+
+    verify(bulkDeleteAccounts, only()).apply(List.of(accountId));
+  }
+
+  @Test
+  @DisplayName("Bulk update accounts when bulk update accounts should stream results")
+  void bulkUpdateAccounts_whenBulkUpdateAccounts_shouldStreamResults() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var bulkUpdateRequestDto = new BulkUpdateRequestDto();
+    var accountRequest = new Account(UUID.randomUUID().toString(), "username", "password",
+        "firstName", "lastName");
+    var bulkItemResult = new BulkItemResult(0, accountRequest.id(), null);
+    var bulkItemResultDto = new BulkItemResultDto();
+
+    when(accountRestMapper.mapBulkUpdateRequestToDomain(bulkUpdateRequestDto))
+        .thenReturn(accountRequest);
+    when(bulkUpdateAccounts.apply(any())).thenAnswer(invocation ->
+        invocation.<Flux<Account>>getArgument(0).map(account -> bulkItemResult));
+    when(accountRestMapper.mapBulkItemResultToInfrastructure(bulkItemResult))
+        .thenReturn(bulkItemResultDto);
+
+    var result = accountController.bulkUpdateAccounts(Flux.just(bulkUpdateRequestDto),
+            serverWebExchange)
+        .flatMapMany(ResponseEntity::getBody);
+
+    StepVerifier.create(result)
+        .expectNext(bulkItemResultDto)
+        .verifyComplete();
+
+    verify(accountRestMapper, times(1)).mapBulkUpdateRequestToDomain(bulkUpdateRequestDto);
+    verify(accountRestMapper, times(1)).mapBulkItemResultToInfrastructure(bulkItemResult);
+    verifyNoMoreInteractions(accountRestMapper);
+  }
+
   @Test
   @DisplayName("Find account by id when find account by id should return account")
   void findAccountById_whenFindAccountById_shouldReturnAccount() {
@@ -114,10 +456,10 @@ class AccountControllerTest {
         "lastName");
     var accountDto = new AccountDto();
 
-    when(findAccountById.apply(accountId)).thenReturn(Mono.just(account));
+    when(findAccountById.apply(accountId, AccountField.ALL)).thenReturn(Mono.just(account));
     when(accountRestMapper.mapAccountToInfrastructure(account)).thenReturn(accountDto);
 
-    var result = accountController.findAccountById(accountId, serverWebExchange);
+    var result = accountController.findAccountById(accountId, null, serverWebExchange);
 
     StepVerifier.create(result)
         .expectNextMatches(accountDtoResponseEntity ->
@@ -126,10 +468,55 @@ class AccountControllerTest {
                 && accountDtoResponseEntity.getBody().equals(accountDto))
         .verifyComplete();
 
-    verify(findAccountById, only()).apply(accountId);
+    verify(findAccountById, only()).apply(accountId, AccountField.ALL);
     verify(accountRestMapper, only()).mapAccountToInfrastructure(account);
   }
 
+  @Test
+  @DisplayName("Find account by id when fields requested should return trimmed account")
+  void findAccountById_whenFieldsRequested_shouldReturnTrimmedAccount() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var accountId = UUID.randomUUID().toString();
+    var fields = Set.of(AccountField.ID, AccountField.USERNAME);
+    var account = new Account(accountId, "username", null, null, null);
+    var accountDto = new AccountDto();
+    accountDto.setId(accountId);
+    accountDto.setUsername("username");
+    accountDto.setFirstName("firstName");
+
+    when(findAccountById.apply(accountId, fields)).thenReturn(Mono.just(account));
+    when(accountRestMapper.mapAccountToInfrastructure(account)).thenReturn(accountDto);
+
+    var result = accountController.findAccountById(accountId, List.of("id", "username"),
+        serverWebExchange);
+
+    StepVerifier.create(result)
+        .expectNextMatches(accountDtoResponseEntity ->
+            Objects.nonNull(accountDtoResponseEntity.getBody())
+                && accountId.equals(accountDtoResponseEntity.getBody().getId())
+                && "username".equals(accountDtoResponseEntity.getBody().getUsername())
+                && Objects.isNull(accountDtoResponseEntity.getBody().getFirstName()))
+        .verifyComplete();
+
+    verify(findAccountById, only()).apply(accountId, fields);
+  }
+
+  @Test
+  @DisplayName("Find account by id when unknown field should return expected error")
+  void findAccountById_whenUnknownField_shouldReturnExpectedError() {
+    var serverWebExchange = mock(ServerWebExchange.class);
+    var accountId = UUID.randomUUID().toString();
+
+    var result = accountController.findAccountById(accountId, List.of("password"),
+        serverWebExchange);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(findAccountById);
+  }
+
   @Test
   @DisplayName("Update account when account register should return new account")
   void updateAccount_whenAccountRegister_shouldReturnNewAccount() {
@@ -0,0 +1,65 @@
+package com.ibx.account.application.controller.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ibx.account.application.model.AccountDto;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountFieldsMapperTest {
+
+  @InjectMocks
+  private AccountFieldsMapper accountFieldsMapper;
+
+  @Test
+  @DisplayName("To account fields when no fields should return all fields")
+  void toAccountFields_whenNoFields_shouldReturnAllFields() {
+    assertEquals(AccountField.ALL, accountFieldsMapper.toAccountFields(null));
+    assertEquals(AccountField.ALL, accountFieldsMapper.toAccountFields(List.of()));
+  }
+
+  @Test
+  @DisplayName("To account fields when known fields should return expected fields")
+  void toAccountFields_whenKnownFields_shouldReturnExpectedFields() {
+    var result = accountFieldsMapper.toAccountFields(List.of("id", "firstName"));
+
+    assertEquals(Set.of(AccountField.ID, AccountField.FIRST_NAME), result);
+  }
+
+  @Test
+  @DisplayName("To account fields when unknown field should throw validation exception")
+  void toAccountFields_whenUnknownField_shouldThrowValidationException() {
+    var fields = List.of("id", "password");
+
+    assertThrows(AccountValidationException.class,
+        () -> accountFieldsMapper.toAccountFields(fields));
+  }
+
+  @Test
+  @DisplayName("Trim when partial fields should clear other fields")
+  void trim_whenPartialFields_shouldClearOtherFields() {
+    var accountDto = new AccountDto();
+    accountDto.setId("id");
+    accountDto.setUsername("username");
+    accountDto.setFirstName("firstName");
+    accountDto.setLastName("lastName");
+
+    var result = accountFieldsMapper.trim(accountDto, Set.of(AccountField.USERNAME));
+
+    assertNull(result.getId());
+    assertEquals("username", result.getUsername());
+    assertNull(result.getFirstName());
+    assertNull(result.getLastName());
+  }
+
+}
@@ -0,0 +1,52 @@
+package com.ibx.account.application.controller.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContinuationTokenMapperTest {
+
+  private static final String ACCOUNT_ID = "6580a416f731564f67e1e213";
+
+  @InjectMocks
+  private ContinuationTokenMapper continuationTokenMapper;
+
+  @Test
+  @DisplayName("To continuation token when account id should return opaque token")
+  void toContinuationToken_whenAccountId_shouldReturnOpaqueToken() {
+    var result = continuationTokenMapper.toContinuationToken(ACCOUNT_ID);
+
+    assertNotEquals(ACCOUNT_ID, result);
+    assertEquals(ACCOUNT_ID, continuationTokenMapper.toAccountId(result));
+  }
+
+  @Test
+  @DisplayName("To account id when null token should return null")
+  void toAccountId_whenNullToken_shouldReturnNull() {
+    assertNull(continuationTokenMapper.toAccountId(null));
+  }
+
+  @Test
+  @DisplayName("To account id when invalid token should throw expected error")
+  void toAccountId_whenInvalidToken_shouldThrowExpectedError() {
+    assertThrows(AccountValidationException.class,
+        () -> continuationTokenMapper.toAccountId("not a token"));
+  }
+
+  @Test
+  @DisplayName("To account id when empty token should throw expected error")
+  void toAccountId_whenEmptyToken_shouldThrowExpectedError() {
+    assertThrows(AccountValidationException.class,
+        () -> continuationTokenMapper.toAccountId(""));
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.ibx.account.domain.messaging;
+
+import com.ibx.account.domain.model.AccountChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pushes account changes made on this node to every client subscribed to it. Publishing never
+ * waits on subscribers, a subscriber that falls behind loses its oldest pending changes instead.
+ */
+public interface AccountChangeNotifier {
+
+  Mono<Void> publish(AccountChange accountChange);
+
+  Flux<AccountChange> subscribe();
+
+}
@@ -0,0 +1,14 @@
+package com.ibx.account.domain.messaging;
+
+import java.util.Collection;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tells every node to evict the given accounts from its local read cache. Publishing only queues
+ * the ids, it never waits on the transport.
+ */
+public interface AccountInvalidationPublisher {
+
+  Mono<Void> publish(Collection<String> accountIds);
+
+}
@@ -0,0 +1,27 @@
+package com.ibx.account.domain.messaging;
+
+import com.ibx.account.domain.model.AccountChange;
+import java.time.Instant;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * Publishes the latest state of each account keyed by its id, so consumers can keep their own
+ * replica, and a tombstone for each deleted account. Changes are published in list order and the
+ * returned Mono completes once the broker acknowledged all of them, or fails with an
+ * {@link com.ibx.account.domain.model.exception.AccountMessagingException} for the caller to
+ * retry.
+ */
+public interface AccountSnapshotProducer {
+
+  Mono<Void> send(List<AccountChange> changes);
+
+  /**
+   * Publishes the marker that follows the snapshots of every account stored before snapshots
+   * were published. It goes to a control channel next to the snapshots, so a consumer that read
+   * it and then the snapshots up to where they were at that point knows its replica holds every
+   * account.
+   */
+  Mono<Void> sendBackfillCompleted(Instant completedAt);
+
+}
@@ -1,9 +1,11 @@
 package com.ibx.account.domain.messaging;
 
 import com.ibx.account.domain.model.Account;
+import java.util.List;
+import reactor.core.publisher.Mono;
 
 public interface DeleteAccountProducer {
 
-  void sendMessage(String key, Account account);
+  Mono<Void> sendMessages(List<Account> accounts);
 
 }
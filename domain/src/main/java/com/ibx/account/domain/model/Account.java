@@ -1,6 +1,13 @@
 package com.ibx.account.domain.model;
 
+import java.time.Instant;
+
 public record Account(String id, String username, String password, String firstName,
-                      String lastName) {
+                      String lastName, Instant updatedAt) {
+
+  public Account(final String id, final String username, final String password,
+      final String firstName, final String lastName) {
+    this(id, username, password, firstName, lastName, null);
+  }
 
 }
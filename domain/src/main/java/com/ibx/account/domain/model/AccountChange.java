@@ -0,0 +1,20 @@
+package com.ibx.account.domain.model;
+
+import java.time.Instant;
+
+public record AccountChange(String id, AccountChangeType type, Account account,
+                            Instant changedAt) {
+
+  public static AccountChange created(final Account account, final Instant changedAt) {
+    return new AccountChange(account.id(), AccountChangeType.CREATED, account, changedAt);
+  }
+
+  public static AccountChange updated(final Account account, final Instant changedAt) {
+    return new AccountChange(account.id(), AccountChangeType.UPDATED, account, changedAt);
+  }
+
+  public static AccountChange deleted(final String id, final Instant changedAt) {
+    return new AccountChange(id, AccountChangeType.DELETED, null, changedAt);
+  }
+
+}
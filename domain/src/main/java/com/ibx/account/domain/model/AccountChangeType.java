@@ -0,0 +1,7 @@
+package com.ibx.account.domain.model;
+
+public enum AccountChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
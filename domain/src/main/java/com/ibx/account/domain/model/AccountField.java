@@ -0,0 +1,26 @@
+package com.ibx.account.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Readable account fields. The password is deliberately not one of them, so read paths can never
+ * ask the database for it.
+ */
+@Getter
+@AllArgsConstructor
+public enum AccountField {
+  ID("id"),
+  USERNAME("username"),
+  FIRST_NAME("firstName"),
+  LAST_NAME("lastName");
+
+  public static final Set<AccountField> ALL = Collections.unmodifiableSet(
+      EnumSet.allOf(AccountField.class));
+
+  private final String fieldName;
+
+}
@@ -0,0 +1,13 @@
+package com.ibx.account.domain.model;
+
+public record AccountLookup(String id, boolean found, Account account) {
+
+  public static AccountLookup of(final Account account) {
+    return new AccountLookup(account.id(), true, account);
+  }
+
+  public static AccountLookup missing(final String id) {
+    return new AccountLookup(id, false, null);
+  }
+
+}
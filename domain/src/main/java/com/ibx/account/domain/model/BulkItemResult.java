@@ -0,0 +1,25 @@
+package com.ibx.account.domain.model;
+
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import java.time.Instant;
+
+public record BulkItemResult(long index, String id, ErrorsEnum error, Instant changedAt) {
+
+  public BulkItemResult(final long index, final String id, final ErrorsEnum error) {
+    this(index, id, error, null);
+  }
+
+  public static BulkItemResult created(final long index, final String id,
+      final Instant changedAt) {
+    return new BulkItemResult(index, id, null, changedAt);
+  }
+
+  public static BulkItemResult failed(final long index, final ErrorsEnum error) {
+    return new BulkItemResult(index, null, error);
+  }
+
+  public BulkItemResult withIndex(final long index) {
+    return new BulkItemResult(index, id, error, changedAt);
+  }
+
+}
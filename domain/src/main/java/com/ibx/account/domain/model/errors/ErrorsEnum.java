@@ -30,7 +30,22 @@ public enum ErrorsEnum {
   UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS("ACCOUNT_0011",
       "Username already exists in account update"),
 
-  INTERNAL_SERVER_ERROR("ACCOUNT_0012", "Unexpected error");
+  INTERNAL_SERVER_ERROR("ACCOUNT_0012", "Unexpected error"),
+
+  FIND_ALL_ACCOUNTS_INVALID_LIMIT("ACCOUNT_0013",
+      "Page limit must be between 1 and 1000"),
+  FIND_ALL_ACCOUNTS_INVALID_CONTINUATION_TOKEN("ACCOUNT_0014",
+      "Invalid continuation token"),
+  INVALID_ACCOUNT_FIELD("ACCOUNT_0015",
+      "Fields must be any of id, username, firstName or lastName"),
+  FIND_ACCOUNTS_BY_IDS_INVALID_SIZE("ACCOUNT_0016",
+      "Between 1 and 1000 account ids are required"),
+  DELETE_ACCOUNT_EVENT_NOT_PUBLISHED("ACCOUNT_0017",
+      "The account delete event could not be published"),
+  ACCOUNT_SNAPSHOT_NOT_PUBLISHED("ACCOUNT_0018",
+      "The account snapshot could not be published"),
+  FIND_ACCOUNT_CHANGES_SINCE_EXPIRED("ACCOUNT_0019",
+      "Changes are not kept that far back, export the accounts again");
 
   private final String code;
 
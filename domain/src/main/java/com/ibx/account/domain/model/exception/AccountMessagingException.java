@@ -0,0 +1,13 @@
+package com.ibx.account.domain.model.exception;
+
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import lombok.Getter;
+
+@Getter
+public class AccountMessagingException extends AccountException {
+
+  public AccountMessagingException(ErrorsEnum errorsEnum, String... params) {
+    super(errorsEnum, params);
+  }
+
+}
@@ -1,23 +1,45 @@
 package com.ibx.account.domain.repository;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface AccountRepository {
 
-  Mono<Account> findById(String id);
+  Mono<Account> findById(String id, Set<AccountField> fields);
 
-  Mono<Account> findByUsername(String username);
+  Flux<Account> findAllById(Collection<String> ids, Set<AccountField> fields);
 
-  Mono<Account> findByUsernameAndIdNotIs(String username, String accountId);
+  Flux<Account> findAll(String after, int limit, Set<AccountField> fields);
 
-  Flux<Account> findAll();
+  Flux<Account> streamAll(Set<AccountField> fields);
+
+  Flux<AccountChange> findChangesSince(Instant since);
 
   Mono<Account> save(Account registerRequest);
 
+  Flux<BulkItemResult> saveAll(List<Account> accounts);
+
   Mono<Account> update(String accountId, Account registerRequest);
 
-  Mono<Void> deleteById(String id);
+  Flux<BulkItemResult> updateAll(List<Account> accounts);
+
+  /**
+   * Removes the account and returns it as it was, stamped with the instant of the deletion.
+   */
+  Mono<Account> findAndRemoveById(String id);
+
+  /**
+   * Removes the accounts that exist and returns them as they were, stamped with the instant of
+   * the deletion.
+   */
+  Flux<Account> findAllAndRemoveById(Collection<String> ids);
 
 }
@@ -0,0 +1,11 @@
+package com.ibx.account.domain.usecase;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.BulkItemResult;
+import reactor.core.publisher.Flux;
+
+public interface BulkAccountRegister {
+
+  Flux<BulkItemResult> apply(Flux<Account> accounts);
+
+}
@@ -0,0 +1,11 @@
+package com.ibx.account.domain.usecase;
+
+import com.ibx.account.domain.model.BulkItemResult;
+import java.util.List;
+import reactor.core.publisher.Flux;
+
+public interface BulkDeleteAccounts {
+
+  Flux<BulkItemResult> apply(List<String> accountIds);
+
+}
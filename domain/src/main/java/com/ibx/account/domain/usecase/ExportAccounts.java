@@ -0,0 +1,12 @@
+package com.ibx.account.domain.usecase;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import java.util.Set;
+import reactor.core.publisher.Flux;
+
+public interface ExportAccounts {
+
+  Flux<Account> apply(Set<AccountField> fields);
+
+}
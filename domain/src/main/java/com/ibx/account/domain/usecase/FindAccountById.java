@@ -1,10 +1,12 @@
 package com.ibx.account.domain.usecase;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import java.util.Set;
 import reactor.core.publisher.Mono;
 
 public interface FindAccountById {
 
-  Mono<Account> apply(String id);
+  Mono<Account> apply(String id, Set<AccountField> fields);
 
 }
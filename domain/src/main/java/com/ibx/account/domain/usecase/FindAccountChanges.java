@@ -0,0 +1,11 @@
+package com.ibx.account.domain.usecase;
+
+import com.ibx.account.domain.model.AccountChange;
+import java.time.Instant;
+import reactor.core.publisher.Flux;
+
+public interface FindAccountChanges {
+
+  Flux<AccountChange> apply(Instant since);
+
+}
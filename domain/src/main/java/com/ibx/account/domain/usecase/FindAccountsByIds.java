@@ -0,0 +1,13 @@
+package com.ibx.account.domain.usecase;
+
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.AccountLookup;
+import java.util.List;
+import java.util.Set;
+import reactor.core.publisher.Flux;
+
+public interface FindAccountsByIds {
+
+  Flux<AccountLookup> apply(List<String> ids, Set<AccountField> fields);
+
+}
@@ -1,10 +1,12 @@
 package com.ibx.account.domain.usecase;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import java.util.Set;
 import reactor.core.publisher.Flux;
 
 public interface FindAllAccounts {
 
-  Flux<Account> apply();
+  Flux<Account> apply(String after, int limit, Set<AccountField> fields);
 
 }
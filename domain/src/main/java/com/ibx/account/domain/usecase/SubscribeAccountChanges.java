@@ -0,0 +1,10 @@
+package com.ibx.account.domain.usecase;
+
+import com.ibx.account.domain.model.AccountChange;
+import reactor.core.publisher.Flux;
+
+public interface SubscribeAccountChanges {
+
+  Flux<AccountChange> apply();
+
+}
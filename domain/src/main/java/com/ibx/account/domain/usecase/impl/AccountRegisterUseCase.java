@@ -1,8 +1,8 @@
 package com.ibx.account.domain.usecase.impl;
 
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
 import com.ibx.account.domain.model.Account;
-import com.ibx.account.domain.model.errors.ErrorsEnum;
-import com.ibx.account.domain.model.exception.AccountAlreadyExistsException;
+import com.ibx.account.domain.model.AccountChange;
 import com.ibx.account.domain.model.validator.CreateAccountValidator;
 import com.ibx.account.domain.repository.AccountRepository;
 import com.ibx.account.domain.usecase.AccountRegister;
@@ -18,20 +18,16 @@ public class AccountRegisterUseCase implements AccountRegister {
 
   private final CreateAccountValidator validator;
 
+  private final AccountChangeNotifier accountChangeNotifier;
+
   @Override
   public Mono<Account> apply(final Account account) {
     return Mono.just(account)
         .doOnNext(validator::validate)
-        .flatMap(this::validateExistingUsername);
-  }
-
-  private Mono<Account> validateExistingUsername(final Account validatedAccount) {
-    return accountRepository.findByUsername(validatedAccount.username())
-        .flatMap(existingAccount -> Mono.error(new AccountAlreadyExistsException(
-                ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS,
-                validatedAccount.username()))
-            .thenReturn(existingAccount))
-        .switchIfEmpty(Mono.defer(() -> accountRepository.save(validatedAccount)));
+        .flatMap(accountRepository::save)
+        .flatMap(savedAccount -> accountChangeNotifier.publish(AccountChange.created(
+                savedAccount, savedAccount.updatedAt()))
+            .thenReturn(savedAccount));
   }
 
 }
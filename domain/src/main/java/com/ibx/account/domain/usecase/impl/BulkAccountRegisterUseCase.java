@@ -0,0 +1,76 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import com.ibx.account.domain.model.validator.CreateAccountValidator;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.domain.usecase.BulkAccountRegister;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+@Service
+@RequiredArgsConstructor
+public class BulkAccountRegisterUseCase implements BulkAccountRegister {
+
+  private final AccountRepository accountRepository;
+
+  private final CreateAccountValidator validator;
+
+  private final AccountChangeNotifier accountChangeNotifier;
+
+  @Value("${app.account.bulk.chunk-size:500}")
+  private int chunkSize;
+
+  @Override
+  public Flux<BulkItemResult> apply(final Flux<Account> accounts) {
+    return accounts.index()
+        .buffer(chunkSize)
+        .concatMap(this::registerChunk);
+  }
+
+  private Flux<BulkItemResult> registerChunk(final List<Tuple2<Long, Account>> chunk) {
+    final var rejected = new ArrayList<BulkItemResult>();
+    final var accepted = new ArrayList<Tuple2<Long, Account>>();
+
+    chunk.forEach(indexedAccount -> {
+      try {
+        validator.validate(indexedAccount.getT2());
+        accepted.add(indexedAccount);
+      } catch (final AccountValidationException exception) {
+        rejected.add(BulkItemResult.failed(indexedAccount.getT1(), exception.getErrorsEnum()));
+      }
+    });
+
+    if (accepted.isEmpty()) {
+      return Flux.fromIterable(rejected);
+    }
+
+    return Flux.fromIterable(rejected)
+        .concatWith(accountRepository.saveAll(accepted.stream().map(Tuple2::getT2).toList())
+            .flatMapSequential(result -> {
+              final var indexedAccount = accepted.get((int) result.index());
+
+              if (result.error() != null) {
+                return Mono.just(result.withIndex(indexedAccount.getT1()));
+              }
+
+              final var account = indexedAccount.getT2();
+              final var createdAccount = new Account(result.id(), account.username(),
+                  account.password(), account.firstName(), account.lastName(),
+                  result.changedAt());
+              return accountChangeNotifier.publish(AccountChange.created(createdAccount,
+                  result.changedAt()))
+                  .thenReturn(result.withIndex(indexedAccount.getT1()));
+            }));
+  }
+
+}
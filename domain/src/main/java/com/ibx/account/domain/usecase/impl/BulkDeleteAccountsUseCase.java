@@ -0,0 +1,73 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.domain.usecase.BulkDeleteAccounts;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+@Service
+@RequiredArgsConstructor
+public class BulkDeleteAccountsUseCase implements BulkDeleteAccounts {
+
+  private final AccountRepository accountRepository;
+
+  private final AccountInvalidationPublisher accountInvalidationPublisher;
+
+  private final AccountChangeNotifier accountChangeNotifier;
+
+  @Value("${app.account.bulk.chunk-size:500}")
+  private int chunkSize;
+
+  @Override
+  public Flux<BulkItemResult> apply(final List<String> accountIds) {
+    return Flux.fromIterable(Objects.requireNonNullElse(accountIds, List.of()))
+        .index()
+        .buffer(chunkSize)
+        .concatMap(this::deleteChunk);
+  }
+
+  private Flux<BulkItemResult> deleteChunk(final List<Tuple2<Long, String>> chunk) {
+    final var accountIds = chunk.stream()
+        .map(Tuple2::getT2)
+        .collect(Collectors.toSet());
+
+    return accountRepository.findAllAndRemoveById(accountIds)
+        .collectMap(Account::id)
+        .flatMap(removedAccounts -> accountInvalidationPublisher.publish(removedAccounts.keySet())
+            .thenMany(Flux.fromIterable(removedAccounts.values()))
+            .concatMap(removedAccount -> accountChangeNotifier.publish(AccountChange.deleted(
+                removedAccount.id(), removedAccount.updatedAt())))
+            .then(Mono.just(removedAccounts)))
+        .flatMapIterable(removedAccounts -> toResults(chunk, removedAccounts));
+  }
+
+  private List<BulkItemResult> toResults(final List<Tuple2<Long, String>> chunk,
+      final Map<String, Account> removedAccounts) {
+    return chunk.stream()
+        .map(indexedId -> {
+          final var removedAccount = removedAccounts.get(indexedId.getT2());
+
+          return removedAccount != null
+              ? new BulkItemResult(indexedId.getT1(), indexedId.getT2(), null,
+                  removedAccount.updatedAt())
+              : new BulkItemResult(indexedId.getT1(), indexedId.getT2(),
+                  ErrorsEnum.ACCOUNT_NOT_FOUND);
+        })
+        .toList();
+  }
+
+}
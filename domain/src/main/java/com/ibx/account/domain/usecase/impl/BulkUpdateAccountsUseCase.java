@@ -0,0 +1,81 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import com.ibx.account.domain.model.validator.UpdateAccountValidator;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.domain.usecase.BulkUpdateAccounts;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+@Service
+@RequiredArgsConstructor
+public class BulkUpdateAccountsUseCase implements BulkUpdateAccounts {
+
+  private final AccountRepository accountRepository;
+
+  private final UpdateAccountValidator validator;
+
+  private final AccountInvalidationPublisher accountInvalidationPublisher;
+
+  private final AccountChangeNotifier accountChangeNotifier;
+
+  @Value("${app.account.bulk.chunk-size:500}")
+  private int chunkSize;
+
+  @Override
+  public Flux<BulkItemResult> apply(final Flux<Account> accounts) {
+    return accounts.index()
+        .buffer(chunkSize)
+        .concatMap(this::updateChunk);
+  }
+
+  private Flux<BulkItemResult> updateChunk(final List<Tuple2<Long, Account>> chunk) {
+    final var rejected = new ArrayList<BulkItemResult>();
+    final var accepted = new ArrayList<Tuple2<Long, Account>>();
+
+    chunk.forEach(indexedAccount -> {
+      try {
+        validator.validate(indexedAccount.getT2());
+        accepted.add(indexedAccount);
+      } catch (final AccountValidationException exception) {
+        rejected.add(new BulkItemResult(indexedAccount.getT1(), indexedAccount.getT2().id(),
+            exception.getErrorsEnum()));
+      }
+    });
+
+    if (accepted.isEmpty()) {
+      return Flux.fromIterable(rejected);
+    }
+
+    return Flux.fromIterable(rejected)
+        .concatWith(accountRepository.updateAll(accepted.stream().map(Tuple2::getT2).toList())
+            .flatMapSequential(result -> {
+              final var indexedAccount = accepted.get((int) result.index());
+
+              if (result.error() != null) {
+                return Mono.just(result.withIndex(indexedAccount.getT1()));
+              }
+
+              final var account = indexedAccount.getT2();
+              final var updatedAccount = new Account(account.id(), account.username(),
+                  account.password(), account.firstName(), account.lastName(),
+                  result.changedAt());
+              return accountInvalidationPublisher.publish(List.of(result.id()))
+                  .then(accountChangeNotifier.publish(AccountChange.updated(updatedAccount,
+                      result.changedAt())))
+                  .thenReturn(result.withIndex(indexedAccount.getT1()));
+            }));
+  }
+
+}
@@ -1,10 +1,13 @@
 package com.ibx.account.domain.usecase.impl;
 
-import com.ibx.account.domain.messaging.DeleteAccountProducer;
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
+import com.ibx.account.domain.model.AccountChange;
 import com.ibx.account.domain.model.errors.ErrorsEnum;
 import com.ibx.account.domain.model.exception.AccountNotFoundException;
 import com.ibx.account.domain.repository.AccountRepository;
 import com.ibx.account.domain.usecase.DeleteAccount;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -15,15 +18,18 @@ public class DeleteAccountUseCase implements DeleteAccount {
 
   private final AccountRepository accountRepository;
 
-  private final DeleteAccountProducer deleteAccountProducer;
+  private final AccountInvalidationPublisher accountInvalidationPublisher;
+
+  private final AccountChangeNotifier accountChangeNotifier;
 
   @Override
   public Mono<Void> apply(final String accountId) {
-    return accountRepository.findById(accountId)
+    return accountRepository.findAndRemoveById(accountId)
         .switchIfEmpty(
             Mono.error(new AccountNotFoundException(ErrorsEnum.ACCOUNT_NOT_FOUND, accountId)))
-        .flatMap(account -> accountRepository.deleteById(account.id())
-            .doOnSuccess(unused -> deleteAccountProducer.sendMessage(account.id(), account)));
+        .flatMap(removedAccount -> accountInvalidationPublisher.publish(List.of(accountId))
+            .then(accountChangeNotifier.publish(AccountChange.deleted(accountId,
+                removedAccount.updatedAt()))));
   }
 
 }
@@ -0,0 +1,23 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.domain.usecase.ExportAccounts;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class ExportAccountsUseCase implements ExportAccounts {
+
+  private final AccountRepository accountRepository;
+
+  @Override
+  public Flux<Account> apply(final Set<AccountField> fields) {
+    return accountRepository.streamAll(fields);
+  }
+
+}
@@ -1,10 +1,12 @@
 package com.ibx.account.domain.usecase.impl;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
 import com.ibx.account.domain.model.errors.ErrorsEnum;
 import com.ibx.account.domain.model.exception.AccountNotFoundException;
 import com.ibx.account.domain.repository.AccountRepository;
 import com.ibx.account.domain.usecase.FindAccountById;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -16,8 +18,8 @@ public class FindAccountByIdUseCase implements FindAccountById {
   private final AccountRepository accountRepository;
 
   @Override
-  public Mono<Account> apply(final String id) {
-    return accountRepository.findById(id)
+  public Mono<Account> apply(final String id, final Set<AccountField> fields) {
+    return accountRepository.findById(id, fields)
         .switchIfEmpty(Mono.error(new AccountNotFoundException(ErrorsEnum.ACCOUNT_NOT_FOUND, id)));
   }
 
@@ -0,0 +1,35 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.domain.usecase.FindAccountChanges;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class FindAccountChangesUseCase implements FindAccountChanges {
+
+  private final AccountRepository accountRepository;
+
+  @Value("${app.account.changes.tombstone-retention:30d}")
+  private Duration tombstoneRetention;
+
+  @Override
+  public Flux<AccountChange> apply(final Instant since) {
+    // Deletions older than the retention have expired, so the changes would silently miss them
+    if (since.isBefore(Instant.now().minus(tombstoneRetention))) {
+      return Flux.error(
+          new AccountValidationException(ErrorsEnum.FIND_ACCOUNT_CHANGES_SINCE_EXPIRED));
+    }
+
+    return accountRepository.findChangesSince(since);
+  }
+
+}
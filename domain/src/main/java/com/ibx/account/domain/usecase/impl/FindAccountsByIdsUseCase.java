@@ -0,0 +1,45 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.AccountLookup;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.domain.usecase.FindAccountsByIds;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class FindAccountsByIdsUseCase implements FindAccountsByIds {
+
+  private static final int MAX_IDS = 1000;
+
+  private final AccountRepository accountRepository;
+
+  @Override
+  public Flux<AccountLookup> apply(final List<String> ids, final Set<AccountField> fields) {
+    return Flux.defer(() -> {
+      final var missingIds = Objects.isNull(ids)
+          ? new LinkedHashSet<String>()
+          : new LinkedHashSet<>(ids);
+
+      if (missingIds.isEmpty() || missingIds.size() > MAX_IDS) {
+        return Flux.error(
+            new AccountValidationException(ErrorsEnum.FIND_ACCOUNTS_BY_IDS_INVALID_SIZE));
+      }
+
+      return accountRepository.findAllById(List.copyOf(missingIds), fields)
+          .doOnNext(account -> missingIds.remove(account.id()))
+          .map(AccountLookup::of)
+          .concatWith(Flux.defer(() -> Flux.fromIterable(missingIds)
+              .map(AccountLookup::missing)));
+    });
+  }
+
+}
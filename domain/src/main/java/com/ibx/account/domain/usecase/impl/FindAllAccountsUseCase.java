@@ -1,8 +1,12 @@
 package com.ibx.account.domain.usecase.impl;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountValidationException;
 import com.ibx.account.domain.repository.AccountRepository;
 import com.ibx.account.domain.usecase.FindAllAccounts;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -11,11 +15,21 @@ import reactor.core.publisher.Flux;
 @RequiredArgsConstructor
 public class FindAllAccountsUseCase implements FindAllAccounts {
 
+  private static final int MIN_LIMIT = 1;
+
+  private static final int MAX_LIMIT = 1000;
+
   private final AccountRepository accountRepository;
 
   @Override
-  public Flux<Account> apply() {
-    return accountRepository.findAll();
+  public Flux<Account> apply(final String after, final int limit,
+      final Set<AccountField> fields) {
+    if (limit < MIN_LIMIT || limit > MAX_LIMIT) {
+      return Flux.error(
+          new AccountValidationException(ErrorsEnum.FIND_ALL_ACCOUNTS_INVALID_LIMIT));
+    }
+
+    return accountRepository.findAll(after, limit, fields);
   }
 
 }
@@ -0,0 +1,21 @@
+package com.ibx.account.domain.usecase.impl;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.usecase.SubscribeAccountChanges;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class SubscribeAccountChangesUseCase implements SubscribeAccountChanges {
+
+  private final AccountChangeNotifier accountChangeNotifier;
+
+  @Override
+  public Flux<AccountChange> apply() {
+    return accountChangeNotifier.subscribe();
+  }
+
+}
@@ -3,18 +3,19 @@ package com.ibx.account.domain.usecase.impl;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.only;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
 import com.ibx.account.domain.model.errors.ErrorsEnum;
 import com.ibx.account.domain.model.exception.AccountAlreadyExistsException;
 import com.ibx.account.domain.model.exception.AccountValidationException;
 import com.ibx.account.domain.model.validator.CreateAccountValidator;
 import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,9 @@ class AccountRegisterUseCaseTest {
   @Mock
   private CreateAccountValidator createAccountValidator;
 
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
+
   @InjectMocks
   private AccountRegisterUseCase accountRegisterUseCase;
 
@@ -53,7 +57,7 @@ class AccountRegisterUseCaseTest {
         .verify();
 
     verify(createAccountValidator, only()).validate(accountRequest);
-    verifyNoInteractions(accountRepository);
+    verifyNoInteractions(accountRepository, accountChangeNotifier);
   }
 
   @Test
@@ -61,12 +65,11 @@ class AccountRegisterUseCaseTest {
   void apply_whenUsernameAlreadyExists_shouldReturnExpectedError() {
     Account accountRequest = new Account(UUID.randomUUID().toString(), "username1", "password",
         "firstName", "lastName");
-    Account existingAccount = new Account(UUID.randomUUID().toString(), "username2", "password",
-        "firstName", "lastName");
 
     doNothing().when(createAccountValidator).validate(accountRequest);
-    when(accountRepository.findByUsername(accountRequest.username()))
-        .thenReturn(Mono.just(existingAccount));
+    when(accountRepository.save(accountRequest))
+        .thenReturn(Mono.error(new AccountAlreadyExistsException(
+            ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, accountRequest.username())));
 
     Mono<Account> result = accountRegisterUseCase.apply(accountRequest);
 
@@ -75,8 +78,8 @@ class AccountRegisterUseCaseTest {
         .verify();
 
     verify(createAccountValidator, only()).validate(accountRequest);
-    verify(accountRepository, only()).findByUsername(accountRequest.username());
-    verifyNoMoreInteractions(accountRepository);
+    verify(accountRepository, only()).save(accountRequest);
+    verifyNoInteractions(accountChangeNotifier);
   }
 
   @Test
@@ -85,11 +88,12 @@ class AccountRegisterUseCaseTest {
     Account accountRequest = new Account(UUID.randomUUID().toString(), "username1", "password",
         "firstName", "lastName");
     Account savedAccount = new Account(UUID.randomUUID().toString(), "username2", "password",
-        "firstName", "lastName");
+        "firstName", "lastName", Instant.now());
+    AccountChange accountChange = AccountChange.created(savedAccount, savedAccount.updatedAt());
 
     doNothing().when(createAccountValidator).validate(accountRequest);
-    when(accountRepository.findByUsername(accountRequest.username())).thenReturn(Mono.empty());
     when(accountRepository.save(accountRequest)).thenReturn(Mono.just(savedAccount));
+    when(accountChangeNotifier.publish(accountChange)).thenReturn(Mono.empty());
 
     Mono<Account> result = accountRegisterUseCase.apply(accountRequest);
 
@@ -98,8 +102,7 @@ class AccountRegisterUseCaseTest {
         .verifyComplete();
 
     verify(createAccountValidator, only()).validate(accountRequest);
-    verify(accountRepository, times(1)).findByUsername(accountRequest.username());
-    verify(accountRepository, times(1)).save(accountRequest);
-    verifyNoMoreInteractions(accountRepository);
+    verify(accountRepository, only()).save(accountRequest);
+    verify(accountChangeNotifier, only()).publish(accountChange);
   }
 }
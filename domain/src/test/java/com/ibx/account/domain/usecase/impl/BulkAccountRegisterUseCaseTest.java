@@ -0,0 +1,112 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.validator.CreateAccountValidator;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class BulkAccountRegisterUseCaseTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Spy
+  private CreateAccountValidator createAccountValidator;
+
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
+
+  @InjectMocks
+  private BulkAccountRegisterUseCase bulkAccountRegisterUseCase;
+
+  @BeforeEach
+  void beforeEach() {
+    ReflectionTestUtils.setField(bulkAccountRegisterUseCase, "chunkSize", CHUNK_SIZE);
+  }
+
+  @Test
+  @DisplayName("Apply when some accounts are invalid should save only valid accounts per chunk")
+  void apply_whenSomeAccountsAreInvalid_shouldSaveOnlyValidAccountsPerChunk() {
+    var firstAccount = buildAccount("username1");
+    var invalidAccount = buildAccount(null);
+    var thirdAccount = buildAccount("username3");
+    var firstId = UUID.randomUUID().toString();
+    var thirdId = UUID.randomUUID().toString();
+    var createdAt = Instant.now();
+    var firstCreated = created(firstAccount, firstId, createdAt);
+    var thirdCreated = created(thirdAccount, thirdId, createdAt);
+
+    when(accountRepository.saveAll(List.of(firstAccount)))
+        .thenReturn(Flux.just(BulkItemResult.created(0, firstId, createdAt)));
+    when(accountRepository.saveAll(List.of(thirdAccount)))
+        .thenReturn(Flux.just(BulkItemResult.created(0, thirdId, createdAt)));
+    when(accountChangeNotifier.publish(AccountChange.created(firstCreated, createdAt)))
+        .thenReturn(Mono.empty());
+    when(accountChangeNotifier.publish(AccountChange.created(thirdCreated, createdAt)))
+        .thenReturn(Mono.empty());
+
+    var result = bulkAccountRegisterUseCase.apply(
+        Flux.just(firstAccount, invalidAccount, thirdAccount));
+
+    StepVerifier.create(result)
+        .expectNext(BulkItemResult.failed(1, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_REQUIRED))
+        .expectNext(BulkItemResult.created(0, firstId, createdAt))
+        .expectNext(BulkItemResult.created(2, thirdId, createdAt))
+        .verifyComplete();
+
+    verify(accountRepository).saveAll(List.of(firstAccount));
+    verify(accountRepository).saveAll(List.of(thirdAccount));
+    verifyNoMoreInteractions(accountRepository);
+    verify(accountChangeNotifier).publish(AccountChange.created(firstCreated, createdAt));
+    verify(accountChangeNotifier).publish(AccountChange.created(thirdCreated, createdAt));
+  }
+
+  @Test
+  @DisplayName("Apply when every account is invalid should not call repository")
+  void apply_whenEveryAccountIsInvalid_shouldNotCallRepository() {
+    var invalidAccount = buildAccount(null);
+
+
+    StepVerifier.create(bulkAccountRegisterUseCase.apply(Flux.just(invalidAccount)))
+        .expectNext(BulkItemResult.failed(0, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_REQUIRED))
+        .verifyComplete();
+
+    verifyNoInteractions(accountRepository, accountChangeNotifier);
+  }
+
+  private Account buildAccount(final String username) {
+    return new Account(null, username, "password", "firstName", "lastName");
+  }
+
+  private Account created(final Account account, final String id, final Instant createdAt) {
+    return new Account(id, account.username(), account.password(), account.firstName(),
+        account.lastName(), createdAt);
+  }
+
+}
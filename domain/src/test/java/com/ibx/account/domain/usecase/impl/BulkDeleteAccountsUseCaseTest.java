@@ -0,0 +1,101 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteAccountsUseCaseTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private AccountInvalidationPublisher accountInvalidationPublisher;
+
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
+
+  @InjectMocks
+  private BulkDeleteAccountsUseCase bulkDeleteAccountsUseCase;
+
+  @BeforeEach
+  void beforeEach() {
+    ReflectionTestUtils.setField(bulkDeleteAccountsUseCase, "chunkSize", CHUNK_SIZE);
+  }
+
+  @Test
+  @DisplayName("Apply when some accounts are missing should delete per chunk and report missing")
+  void apply_whenSomeAccountsAreMissing_shouldDeletePerChunkAndReportMissing() {
+    var firstAccount = buildAccount();
+    var secondAccount = buildAccount();
+    var missingId = UUID.randomUUID().toString();
+
+    when(accountRepository.findAllAndRemoveById(Set.of(firstAccount.id(), missingId)))
+        .thenReturn(Flux.just(firstAccount));
+    when(accountRepository.findAllAndRemoveById(Set.of(secondAccount.id())))
+        .thenReturn(Flux.just(secondAccount));
+    when(accountInvalidationPublisher.publish(Set.of(firstAccount.id())))
+        .thenReturn(Mono.empty());
+    when(accountInvalidationPublisher.publish(Set.of(secondAccount.id())))
+        .thenReturn(Mono.empty());
+    when(accountChangeNotifier.publish(AccountChange.deleted(firstAccount.id(),
+        firstAccount.updatedAt()))).thenReturn(Mono.empty());
+    when(accountChangeNotifier.publish(AccountChange.deleted(secondAccount.id(),
+        secondAccount.updatedAt()))).thenReturn(Mono.empty());
+
+    var result = bulkDeleteAccountsUseCase.apply(
+        List.of(firstAccount.id(), missingId, secondAccount.id()));
+
+    StepVerifier.create(result)
+        .expectNext(new BulkItemResult(0, firstAccount.id(), null, firstAccount.updatedAt()))
+        .expectNext(new BulkItemResult(1, missingId, ErrorsEnum.ACCOUNT_NOT_FOUND))
+        .expectNext(new BulkItemResult(2, secondAccount.id(), null, secondAccount.updatedAt()))
+        .verifyComplete();
+
+    verify(accountChangeNotifier).publish(AccountChange.deleted(firstAccount.id(),
+        firstAccount.updatedAt()));
+    verify(accountChangeNotifier).publish(AccountChange.deleted(secondAccount.id(),
+        secondAccount.updatedAt()));
+  }
+
+  @Test
+  @DisplayName("Apply when no ids should not call repository")
+  void apply_whenNoIds_shouldNotCallRepository() {
+    StepVerifier.create(bulkDeleteAccountsUseCase.apply(List.of()))
+        .verifyComplete();
+
+    verifyNoInteractions(accountRepository, accountInvalidationPublisher, accountChangeNotifier);
+  }
+
+  private Account buildAccount() {
+    return new Account(UUID.randomUUID().toString(), "username", "password", "firstName",
+        "lastName", Instant.now());
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.validator.UpdateAccountValidator;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class BulkUpdateAccountsUseCaseTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Spy
+  private UpdateAccountValidator updateAccountValidator;
+
+  @Mock
+  private AccountInvalidationPublisher accountInvalidationPublisher;
+
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
+
+  @InjectMocks
+  private BulkUpdateAccountsUseCase bulkUpdateAccountsUseCase;
+
+  @BeforeEach
+  void beforeEach() {
+    ReflectionTestUtils.setField(bulkUpdateAccountsUseCase, "chunkSize", CHUNK_SIZE);
+  }
+
+  @Test
+  @DisplayName("Apply when some accounts are invalid should update only valid accounts per chunk")
+  void apply_whenSomeAccountsAreInvalid_shouldUpdateOnlyValidAccountsPerChunk() {
+    var firstAccount = buildAccount("username1");
+    var invalidAccount = buildAccount(null);
+    var thirdAccount = buildAccount("username3");
+    var updatedAt = Instant.now();
+    var firstUpdated = new Account(firstAccount.id(), firstAccount.username(),
+        firstAccount.password(), firstAccount.firstName(), firstAccount.lastName(), updatedAt);
+
+    when(accountRepository.updateAll(List.of(firstAccount)))
+        .thenReturn(Flux.just(new BulkItemResult(0, firstAccount.id(), null, updatedAt)));
+    when(accountRepository.updateAll(List.of(thirdAccount)))
+        .thenReturn(Flux.just(new BulkItemResult(0, thirdAccount.id(),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS)));
+    when(accountInvalidationPublisher.publish(List.of(firstAccount.id())))
+        .thenReturn(Mono.empty());
+    when(accountChangeNotifier.publish(AccountChange.updated(firstUpdated, updatedAt)))
+        .thenReturn(Mono.empty());
+
+    var result = bulkUpdateAccountsUseCase.apply(
+        Flux.just(firstAccount, invalidAccount, thirdAccount));
+
+    StepVerifier.create(result)
+        .expectNext(new BulkItemResult(1, invalidAccount.id(),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_REQUIRED))
+        .expectNext(new BulkItemResult(0, firstAccount.id(), null, updatedAt))
+        .expectNext(new BulkItemResult(2, thirdAccount.id(),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS))
+        .verifyComplete();
+
+    verify(accountRepository).updateAll(List.of(firstAccount));
+    verify(accountRepository).updateAll(List.of(thirdAccount));
+    verifyNoMoreInteractions(accountRepository);
+    verify(accountInvalidationPublisher, only()).publish(List.of(firstAccount.id()));
+    verify(accountChangeNotifier, only()).publish(AccountChange.updated(firstUpdated,
+        updatedAt));
+  }
+
+  @Test
+  @DisplayName("Apply when every account is invalid should not call repository")
+  void apply_whenEveryAccountIsInvalid_shouldNotCallRepository() {
+    var invalidAccount = buildAccount(null);
+
+    StepVerifier.create(bulkUpdateAccountsUseCase.apply(Flux.just(invalidAccount)))
+        .expectNext(new BulkItemResult(0, invalidAccount.id(),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_REQUIRED))
+        .verifyComplete();
+
+    verifyNoInteractions(accountRepository, accountInvalidationPublisher, accountChangeNotifier);
+  }
+
+  private Account buildAccount(final String username) {
+    return new Account(UUID.randomUUID().toString(), username, "password", "firstName",
+        "lastName");
+  }
+
+}
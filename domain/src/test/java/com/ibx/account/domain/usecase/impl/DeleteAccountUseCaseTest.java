@@ -1,17 +1,18 @@
 package com.ibx.account.domain.usecase.impl;
 
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.only;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.ibx.account.domain.messaging.DeleteAccountProducer;
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
 import com.ibx.account.domain.model.exception.AccountNotFoundException;
 import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,7 +30,10 @@ class DeleteAccountUseCaseTest {
   private AccountRepository accountRepository;
 
   @Mock
-  private DeleteAccountProducer deleteAccountProducer;
+  private AccountInvalidationPublisher accountInvalidationPublisher;
+
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
 
   @InjectMocks
   private DeleteAccountUseCase deleteAccountUseCase;
@@ -39,7 +43,7 @@ class DeleteAccountUseCaseTest {
   void apply_whenAccountNotFound_shouldReturnExpectedError() {
     String accountId = UUID.randomUUID().toString();
 
-    when(accountRepository.findById(accountId)).thenReturn(Mono.empty());
+    when(accountRepository.findAndRemoveById(accountId)).thenReturn(Mono.empty());
 
     Mono<Void> result = deleteAccountUseCase.apply(accountId);
 
@@ -47,19 +51,16 @@ class DeleteAccountUseCaseTest {
         .expectError(AccountNotFoundException.class)
         .verify();
 
-    verify(accountRepository, only()).findById(accountId);
-    verifyNoInteractions(deleteAccountProducer);
+    verify(accountRepository, only()).findAndRemoveById(accountId);
+    verifyNoInteractions(accountChangeNotifier);
   }
 
   @Test
   @DisplayName("Apply when delete account error should return expected error")
   void apply_whenDeleteAccountError_shouldReturnExpectedError() {
     String accountId = UUID.randomUUID().toString();
-    Account existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
 
-    when(accountRepository.findById(accountId)).thenReturn(Mono.just(existingAccount));
-    when(accountRepository.deleteById(existingAccount.id())).thenReturn(
+    when(accountRepository.findAndRemoveById(accountId)).thenReturn(
         Mono.error(new IllegalArgumentException()));
 
     Mono<Void> result = deleteAccountUseCase.apply(accountId);
@@ -68,32 +69,29 @@ class DeleteAccountUseCaseTest {
         .expectError(IllegalArgumentException.class)
         .verify();
 
-    verify(accountRepository, times(1)).findById(accountId);
-    verify(accountRepository, times(1)).deleteById(existingAccount.id());
-    verifyNoMoreInteractions(accountRepository);
-    verifyNoInteractions(deleteAccountProducer);
+    verify(accountRepository, only()).findAndRemoveById(accountId);
   }
 
   @Test
   @DisplayName("Apply when delete success should return expected response")
   void apply_whenDeleteSuccess_shouldReturnExpectedResponse() {
     String accountId = UUID.randomUUID().toString();
-    Account existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
+    Account removedAccount = new Account(accountId, "username", "password",
+        "firstName", "lastName", Instant.now());
+    AccountChange accountChange = AccountChange.deleted(accountId, removedAccount.updatedAt());
 
-    when(accountRepository.findById(accountId)).thenReturn(Mono.just(existingAccount));
-    when(accountRepository.deleteById(existingAccount.id())).thenReturn(Mono.empty());
-    doNothing().when(deleteAccountProducer).sendMessage(existingAccount.id(), existingAccount);
+    when(accountRepository.findAndRemoveById(accountId)).thenReturn(Mono.just(removedAccount));
+    when(accountInvalidationPublisher.publish(List.of(accountId))).thenReturn(Mono.empty());
+    when(accountChangeNotifier.publish(accountChange)).thenReturn(Mono.empty());
 
     Mono<Void> result = deleteAccountUseCase.apply(accountId);
 
     StepVerifier.create(result)
         .verifyComplete();
 
-    verify(accountRepository, times(1)).findById(accountId);
-    verify(accountRepository, times(1)).deleteById(existingAccount.id());
-    verifyNoMoreInteractions(accountRepository);
-    verify(deleteAccountProducer, only()).sendMessage(existingAccount.id(), existingAccount);
+    verify(accountRepository, only()).findAndRemoveById(accountId);
+    verify(accountInvalidationPublisher, only()).publish(List.of(accountId));
+    verify(accountChangeNotifier, only()).publish(accountChange);
   }
 
 }
@@ -0,0 +1,62 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ExportAccountsUseCaseTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @InjectMocks
+  private ExportAccountsUseCase exportAccountsUseCase;
+
+  @Test
+  @DisplayName("Apply when stream all should return all accounts")
+  void apply_whenStreamAll_shouldReturnAllAccounts() {
+    Flux<Account> expectedResult = Flux.just(
+        new Account(UUID.randomUUID().toString(), "username", "password", "firstName", "lastName"));
+
+    when(accountRepository.streamAll(AccountField.ALL)).thenReturn(expectedResult);
+
+    Flux<Account> result = exportAccountsUseCase.apply(AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(accountRepository, only()).streamAll(AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Apply when fields given should stream only those fields")
+  void apply_whenFieldsGiven_shouldStreamOnlyThoseFields() {
+    var fields = Set.of(AccountField.ID, AccountField.USERNAME);
+    Flux<Account> expectedResult = Flux.just(
+        new Account(UUID.randomUUID().toString(), "username", null, null, null));
+
+    when(accountRepository.streamAll(fields)).thenReturn(expectedResult);
+
+    StepVerifier.create(exportAccountsUseCase.apply(fields))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(accountRepository, only()).streamAll(fields);
+  }
+}
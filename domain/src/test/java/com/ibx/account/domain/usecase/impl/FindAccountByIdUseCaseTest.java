@@ -5,6 +5,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
 import com.ibx.account.domain.model.exception.AccountNotFoundException;
 import com.ibx.account.domain.repository.AccountRepository;
 import java.util.UUID;
@@ -31,15 +32,15 @@ class FindAccountByIdUseCaseTest {
   void apply_whenAccountNotFound_shouldReturnExpectedError() {
     String accountId = UUID.randomUUID().toString();
 
-    when(accountRepository.findById(accountId)).thenReturn(Mono.empty());
+    when(accountRepository.findById(accountId, AccountField.ALL)).thenReturn(Mono.empty());
 
-    Mono<Account> result = findAccountByIdUseCase.apply(accountId);
+    Mono<Account> result = findAccountByIdUseCase.apply(accountId, AccountField.ALL);
 
     StepVerifier.create(result)
         .expectError(AccountNotFoundException.class)
         .verify();
 
-    verify(accountRepository, only()).findById(accountId);
+    verify(accountRepository, only()).findById(accountId, AccountField.ALL);
   }
 
   @Test
@@ -49,15 +50,16 @@ class FindAccountByIdUseCaseTest {
     Account existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
 
-    when(accountRepository.findById(accountId)).thenReturn(Mono.just(existingAccount));
+    when(accountRepository.findById(accountId, AccountField.ALL))
+        .thenReturn(Mono.just(existingAccount));
 
-    Mono<Account> result = findAccountByIdUseCase.apply(accountId);
+    Mono<Account> result = findAccountByIdUseCase.apply(accountId, AccountField.ALL);
 
     StepVerifier.create(result)
         .expectNext(existingAccount)
         .verifyComplete();
 
-    verify(accountRepository, only()).findById(accountId);
+    verify(accountRepository, only()).findById(accountId, AccountField.ALL);
   }
 
 }
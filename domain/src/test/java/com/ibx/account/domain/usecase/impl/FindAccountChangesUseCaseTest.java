@@ -0,0 +1,72 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class FindAccountChangesUseCaseTest {
+
+  private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @InjectMocks
+  private FindAccountChangesUseCase findAccountChangesUseCase;
+
+  @BeforeEach
+  void beforeEach() {
+    ReflectionTestUtils.setField(findAccountChangesUseCase, "tombstoneRetention",
+        TOMBSTONE_RETENTION);
+  }
+
+  @Test
+  @DisplayName("Apply when changes since instant should return updates and deletions")
+  void apply_whenChangesSinceInstant_shouldReturnUpdatesAndDeletions() {
+    var since = Instant.now();
+    var updated = AccountChange.updated(new Account(UUID.randomUUID().toString(), "username",
+        null, "firstName", "lastName"), since.plusSeconds(1));
+    var deleted = AccountChange.deleted(UUID.randomUUID().toString(), since.plusSeconds(2));
+
+    when(accountRepository.findChangesSince(since)).thenReturn(Flux.just(updated, deleted));
+
+    StepVerifier.create(findAccountChangesUseCase.apply(since))
+        .expectNext(updated, deleted)
+        .verifyComplete();
+
+    verify(accountRepository, only()).findChangesSince(since);
+  }
+
+  @Test
+  @DisplayName("Apply when since older than tombstone retention should return validation error")
+  void apply_whenSinceOlderThanTombstoneRetention_shouldReturnValidationError() {
+    var since = Instant.now().minus(TOMBSTONE_RETENTION).minusSeconds(60);
+
+    StepVerifier.create(findAccountChangesUseCase.apply(since))
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(accountRepository);
+  }
+
+}
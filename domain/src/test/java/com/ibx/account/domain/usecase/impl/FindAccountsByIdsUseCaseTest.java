@@ -0,0 +1,83 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.AccountLookup;
+import com.ibx.account.domain.model.exception.AccountValidationException;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class FindAccountsByIdsUseCaseTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @InjectMocks
+  private FindAccountsByIdsUseCase findAccountsByIdsUseCase;
+
+  @Test
+  @DisplayName("Apply when some ids missing should return found accounts then missing ids")
+  void apply_whenSomeIdsMissing_shouldReturnFoundAccountsThenMissingIds() {
+    String foundId = UUID.randomUUID().toString();
+    String missingId = UUID.randomUUID().toString();
+    Account account = new Account(foundId, "username", null, "firstName", "lastName");
+
+    when(accountRepository.findAllById(List.of(missingId, foundId), AccountField.ALL))
+        .thenReturn(Flux.just(account));
+
+    Flux<AccountLookup> result = findAccountsByIdsUseCase.apply(
+        List.of(missingId, foundId, missingId), AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectNext(AccountLookup.of(account))
+        .expectNext(AccountLookup.missing(missingId))
+        .verifyComplete();
+
+    verify(accountRepository, only()).findAllById(List.of(missingId, foundId), AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Apply when no ids should return expected error")
+  void apply_whenNoIds_shouldReturnExpectedError() {
+    Flux<AccountLookup> result = findAccountsByIdsUseCase.apply(List.of(), AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(accountRepository);
+  }
+
+  @Test
+  @DisplayName("Apply when too many ids should return expected error")
+  void apply_whenTooManyIds_shouldReturnExpectedError() {
+    List<String> ids = IntStream.rangeClosed(0, 1000)
+        .mapToObj(String::valueOf)
+        .toList();
+
+    Flux<AccountLookup> result = findAccountsByIdsUseCase.apply(ids, AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(accountRepository);
+  }
+
+}
@@ -2,9 +2,12 @@ package com.ibx.account.domain.usecase.impl;
 
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.exception.AccountValidationException;
 import com.ibx.account.domain.repository.AccountRepository;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -28,17 +31,42 @@ class FindAllAccountsUseCaseTest {
   @Test
   @DisplayName("Apply when find all should return all accounts")
   void apply_whenFindAll_shouldReturnAllAccounts() {
+    String after = UUID.randomUUID().toString();
     Flux<Account> expectedResult = Flux.just(
         new Account(UUID.randomUUID().toString(), "username", "password", "firstName", "lastName"));
 
-    when(accountRepository.findAll()).thenReturn(expectedResult);
+    when(accountRepository.findAll(after, 10, AccountField.ALL)).thenReturn(expectedResult);
 
-    Flux<Account> result = findAllAccountsUseCase.apply();
+    Flux<Account> result = findAllAccountsUseCase.apply(after, 10, AccountField.ALL);
 
     StepVerifier.create(result)
         .expectNextCount(1)
         .verifyComplete();
 
-    verify(accountRepository, only()).findAll();
+    verify(accountRepository, only()).findAll(after, 10, AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Apply when limit too low should return expected error")
+  void apply_whenLimitTooLow_shouldReturnExpectedError() {
+    Flux<Account> result = findAllAccountsUseCase.apply(null, 0, AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(accountRepository);
+  }
+
+  @Test
+  @DisplayName("Apply when limit too high should return expected error")
+  void apply_whenLimitTooHigh_shouldReturnExpectedError() {
+    Flux<Account> result = findAllAccountsUseCase.apply(null, 1001, AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectError(AccountValidationException.class)
+        .verify();
+
+    verifyNoInteractions(accountRepository);
   }
 }
@@ -0,0 +1,42 @@
+package com.ibx.account.domain.usecase.impl;
+
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.model.AccountChange;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class SubscribeAccountChangesUseCaseTest {
+
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
+
+  @InjectMocks
+  private SubscribeAccountChangesUseCase subscribeAccountChangesUseCase;
+
+  @Test
+  @DisplayName("Apply when changes published should return them")
+  void apply_whenChangesPublished_shouldReturnThem() {
+    var accountChange = AccountChange.deleted(UUID.randomUUID().toString(), Instant.now());
+
+    when(accountChangeNotifier.subscribe()).thenReturn(Flux.just(accountChange));
+
+    StepVerifier.create(subscribeAccountChangesUseCase.apply())
+        .expectNext(accountChange)
+        .verifyComplete();
+
+    verify(accountChangeNotifier, only()).subscribe();
+  }
+}
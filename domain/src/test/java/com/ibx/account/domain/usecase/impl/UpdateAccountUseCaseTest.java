@@ -3,18 +3,22 @@ package com.ibx.account.domain.usecase.impl;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.only;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
 import com.ibx.account.domain.model.exception.AccountAlreadyExistsException;
 import com.ibx.account.domain.model.exception.AccountNotFoundException;
 import com.ibx.account.domain.model.exception.AccountValidationException;
 import com.ibx.account.domain.model.validator.UpdateAccountValidator;
 import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +38,12 @@ class UpdateAccountUseCaseTest {
   @Mock
   private UpdateAccountValidator validator;
 
+  @Mock
+  private AccountInvalidationPublisher accountInvalidationPublisher;
+
+  @Mock
+  private AccountChangeNotifier accountChangeNotifier;
+
   @InjectMocks
   private UpdateAccountUseCase updateAccountUseCase;
 
@@ -64,7 +74,7 @@ class UpdateAccountUseCaseTest {
         "firstName", "lastName");
 
     doNothing().when(validator).validate(accountRequest);
-    when(accountRepository.findById(accountId)).thenReturn(Mono.empty());
+    when(accountRepository.update(accountId, accountRequest)).thenReturn(Mono.empty());
 
     Mono<Account> result = updateAccountUseCase.apply(accountId, accountRequest);
 
@@ -73,7 +83,7 @@ class UpdateAccountUseCaseTest {
         .verify();
 
     verify(validator, only()).validate(accountRequest);
-    verify(accountRepository, only()).findById(accountId);
+    verify(accountRepository, only()).update(accountId, accountRequest);
   }
 
   @Test
@@ -82,16 +92,11 @@ class UpdateAccountUseCaseTest {
     String accountId = UUID.randomUUID().toString();
     Account accountRequest = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
-    Account existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
-    Account existingUsernameAccount = new Account(UUID.randomUUID().toString(), "username",
-        "password",
-        "firstName", "lastName");
 
     doNothing().when(validator).validate(accountRequest);
-    when(accountRepository.findById(accountId)).thenReturn(Mono.just(existingAccount));
-    when(accountRepository.findByUsernameAndIdNotIs(accountRequest.username(), accountId))
-        .thenReturn(Mono.just(existingUsernameAccount));
+    when(accountRepository.update(accountId, accountRequest))
+        .thenReturn(Mono.error(new AccountAlreadyExistsException(
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS, accountRequest.username())));
 
     Mono<Account> result = updateAccountUseCase.apply(accountId, accountRequest);
 
@@ -100,10 +105,7 @@ class UpdateAccountUseCaseTest {
         .verify();
 
     verify(validator, only()).validate(accountRequest);
-    verify(accountRepository, times(1)).findById(accountId);
-    verify(accountRepository, times(1)).findByUsernameAndIdNotIs(accountRequest.username(),
-        accountId);
-    verifyNoMoreInteractions(accountRepository);
+    verify(accountRepository, only()).update(accountId, accountRequest);
   }
 
   @Test
@@ -112,13 +114,8 @@ class UpdateAccountUseCaseTest {
     String accountId = UUID.randomUUID().toString();
     Account accountRequest = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
-    Account existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
 
     doNothing().when(validator).validate(accountRequest);
-    when(accountRepository.findById(accountId)).thenReturn(Mono.just(existingAccount));
-    when(accountRepository.findByUsernameAndIdNotIs(accountRequest.username(), accountId))
-        .thenReturn(Mono.empty());
     when(accountRepository.update(accountId, accountRequest))
         .thenReturn(Mono.error(new IllegalArgumentException()));
 
@@ -129,11 +126,7 @@ class UpdateAccountUseCaseTest {
         .verify();
 
     verify(validator, only()).validate(accountRequest);
-    verify(accountRepository, times(1)).findById(accountId);
-    verify(accountRepository, times(1)).findByUsernameAndIdNotIs(accountRequest.username(),
-        accountId);
-    verify(accountRepository, times(1)).update(accountId, accountRequest);
-    verifyNoMoreInteractions(accountRepository);
+    verify(accountRepository, only()).update(accountId, accountRequest);
   }
 
   @Test
@@ -142,17 +135,16 @@ class UpdateAccountUseCaseTest {
     String accountId = UUID.randomUUID().toString();
     Account accountRequest = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
-    Account existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
     Account updatedAccount = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
+        "firstName", "lastName", Instant.now());
+    AccountChange accountChange = AccountChange.updated(updatedAccount,
+        updatedAccount.updatedAt());
 
     doNothing().when(validator).validate(accountRequest);
-    when(accountRepository.findById(accountId)).thenReturn(Mono.just(existingAccount));
-    when(accountRepository.findByUsernameAndIdNotIs(accountRequest.username(), accountId))
-        .thenReturn(Mono.empty());
     when(accountRepository.update(accountId, accountRequest))
         .thenReturn(Mono.just(updatedAccount));
+    when(accountInvalidationPublisher.publish(List.of(accountId))).thenReturn(Mono.empty());
+    when(accountChangeNotifier.publish(accountChange)).thenReturn(Mono.empty());
 
     Mono<Account> result = updateAccountUseCase.apply(accountId, accountRequest);
 
@@ -161,11 +153,9 @@ class UpdateAccountUseCaseTest {
         .verifyComplete();
 
     verify(validator, only()).validate(accountRequest);
-    verify(accountRepository, times(1)).findById(accountId);
-    verify(accountRepository, times(1)).findByUsernameAndIdNotIs(accountRequest.username(),
-        accountId);
-    verify(accountRepository, times(1)).update(accountId, accountRequest);
-    verifyNoMoreInteractions(accountRepository);
+    verify(accountRepository, only()).update(accountId, accountRequest);
+    verify(accountInvalidationPublisher, only()).publish(List.of(accountId));
+    verify(accountChangeNotifier, only()).publish(accountChange);
   }
 
 }
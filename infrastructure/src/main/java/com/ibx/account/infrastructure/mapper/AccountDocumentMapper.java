@@ -3,10 +3,13 @@ package com.ibx.account.infrastructure.mapper;
 import com.ibx.account.domain.model.Account;
 import com.ibx.account.infrastructure.model.AccountDocument;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface AccountDocumentMapper {
 
+  @Mapping(target = "updatedAt", ignore = true)
+  @Mapping(target = "version", ignore = true)
   AccountDocument toInfrastructure(final Account account);
 
   Account toDomain(final AccountDocument accountDocument);
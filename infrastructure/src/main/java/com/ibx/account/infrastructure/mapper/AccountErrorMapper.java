@@ -1,11 +1,18 @@
 package com.ibx.account.infrastructure.mapper;
 
-import com.ibx.account.domain.model.Account;
 import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountAlreadyExistsException;
 import com.ibx.account.domain.model.exception.AccountRepositoryException;
-import com.ibx.account.infrastructure.model.AccountDocument;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
-import org.mapstruct.Mapper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.util.MongoDbErrorCodes;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,4 +25,46 @@ public class AccountErrorMapper {
     return new AccountRepositoryException(ErrorsEnum.INTERNAL_SERVER_ERROR);
   }
 
+  public Throwable mapMongoError(final Throwable throwable,
+      final ErrorsEnum duplicateKeyError, final String... params) {
+    if (throwable instanceof DuplicateKeyException) {
+      log.debug(throwable.getMessage());
+
+      return new AccountAlreadyExistsException(duplicateKeyError, params);
+    }
+
+    return mapMongoError(throwable);
+  }
+
+  public Map<Integer, ErrorsEnum> mapBulkWriteErrors(final Throwable throwable, final int size,
+      final ErrorsEnum duplicateKeyError) {
+    final var bulkWriteException = findBulkWriteException(throwable);
+
+    if (Objects.isNull(bulkWriteException)) {
+      log.error(throwable.getMessage(), throwable);
+
+      return IntStream.range(0, size).boxed()
+          .collect(Collectors.toMap(Function.identity(),
+              index -> ErrorsEnum.INTERNAL_SERVER_ERROR));
+    }
+
+    log.debug(bulkWriteException.getMessage());
+
+    return bulkWriteException.getWriteErrors().stream()
+        .collect(Collectors.toMap(BulkWriteError::getIndex,
+            error -> MongoDbErrorCodes.isDuplicateKeyCode(error.getCode())
+                ? duplicateKeyError
+                : ErrorsEnum.INTERNAL_SERVER_ERROR));
+  }
+
+  private MongoBulkWriteException findBulkWriteException(final Throwable throwable) {
+    Throwable cause = throwable;
+
+    while (Objects.nonNull(cause) && !(cause instanceof MongoBulkWriteException)) {
+      cause = cause.getCause();
+    }
+
+    return (MongoBulkWriteException) cause;
+  }
+
 }
@@ -0,0 +1,18 @@
+package com.ibx.account.infrastructure.mapper;
+
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountTombstoneDocument;
+import java.time.Instant;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface AccountTombstoneMapper {
+
+  @Mapping(target = "id", ignore = true)
+  @Mapping(target = "accountId", source = "accountDocument.id")
+  @Mapping(target = "deletedAt", source = "deletedAt")
+  AccountTombstoneDocument toTombstone(final AccountDocument accountDocument,
+      final Instant deletedAt);
+
+}
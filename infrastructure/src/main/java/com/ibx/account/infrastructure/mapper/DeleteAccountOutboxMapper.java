@@ -0,0 +1,22 @@
+package com.ibx.account.infrastructure.mapper;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.DeleteAccountOutboxDocument;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface DeleteAccountOutboxMapper {
+
+  @Mapping(target = "id", ignore = true)
+  @Mapping(target = "accountId", source = "id")
+  @Mapping(target = "createdAt", expression = "java(java.time.Instant.now())")
+  DeleteAccountOutboxDocument toOutbox(final AccountDocument accountDocument);
+
+  @Mapping(target = "id", source = "accountId")
+  @Mapping(target = "password", ignore = true)
+  @Mapping(target = "updatedAt", ignore = true)
+  Account toDomain(final DeleteAccountOutboxDocument deleteAccountOutboxDocument);
+
+}
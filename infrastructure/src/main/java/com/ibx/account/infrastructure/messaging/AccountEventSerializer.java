@@ -0,0 +1,18 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.model.Account;
+import java.io.IOException;
+
+/**
+ * Encodes account events for the broker. Only the fields consumers need are written, never the
+ * password.
+ */
+public interface AccountEventSerializer {
+
+  String contentType();
+
+  byte[] serialize(Account account) throws IOException;
+
+  Account deserialize(byte[] event) throws IOException;
+
+}
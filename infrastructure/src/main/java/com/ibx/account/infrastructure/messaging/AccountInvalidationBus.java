@@ -0,0 +1,17 @@
+package com.ibx.account.infrastructure.messaging;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Transport for account cache invalidations between nodes. Listeners receive batches of
+ * distinct account ids to evict.
+ */
+public interface AccountInvalidationBus {
+
+  Mono<Void> publish(Set<String> accountIds);
+
+  void subscribe(Consumer<Set<String>> listener);
+
+}
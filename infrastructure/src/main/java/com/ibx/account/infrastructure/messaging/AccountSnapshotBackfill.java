@@ -0,0 +1,154 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotBackfillDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotOutboxDocument;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Queues a snapshot of every stored account on the snapshot outbox once, followed by the backfill
+ * marker, so the snapshot topic also holds the accounts stored before snapshots were published
+ * and replicas can tell when they hold every account. Only the node holding the backfill lease
+ * runs it, renewing the lease before each page, and the last queued account is kept in Mongo so
+ * a node taking over resumes after it. Accounts are queued as updates: the relay sends them as
+ * stored and skips those deleted in the meantime.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account.snapshot.backfill.enabled", havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class AccountSnapshotBackfill {
+
+  static final String LEASE_NAME = "account_snapshot_backfill";
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  private final OutboxLease outboxLease;
+
+  private final int batchSize;
+
+  private final Duration retryInterval;
+
+  private Disposable subscription;
+
+  public AccountSnapshotBackfill(final ReactiveMongoTemplate mongoTemplate,
+      final OutboxLease outboxLease,
+      @Value("${app.account.snapshot.backfill.batch-size:1000}") final int batchSize,
+      @Value("${app.account.snapshot.backfill.retry-interval:1m}") final Duration retryInterval) {
+    this.mongoTemplate = mongoTemplate;
+    this.outboxLease = outboxLease;
+    this.batchSize = batchSize;
+    this.retryInterval = retryInterval;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    subscription = Flux.interval(Duration.ZERO, retryInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> backfill(), 1)
+        .takeUntil(Boolean::booleanValue)
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  Mono<Boolean> backfill() {
+    return mongoTemplate.findById(LEASE_NAME, AccountSnapshotBackfillDocument.class)
+        .defaultIfEmpty(new AccountSnapshotBackfillDocument())
+        .flatMap(progress -> Objects.nonNull(progress.getCompletedAt())
+            ? Mono.just(true)
+            : backfillAfter(progress.getLastAccountId()))
+        .onErrorResume(throwable -> {
+          log.error("Error backfilling the account snapshot outbox", throwable);
+          return Mono.just(false);
+        });
+  }
+
+  private Mono<Boolean> backfillAfter(final String lastAccountId) {
+    return outboxLease.acquire(LEASE_NAME)
+        .flatMap(leased -> Boolean.TRUE.equals(leased)
+            ? findAccountIdsAfter(lastAccountId).collectList().flatMap(this::queue)
+            : Mono.just(false));
+  }
+
+  private Flux<String> findAccountIdsAfter(final String lastAccountId) {
+    final var query = new Query()
+        .with(Sort.by(Direction.ASC, "id"))
+        .limit(batchSize);
+    query.fields().include("id");
+
+    if (Objects.nonNull(lastAccountId)) {
+      query.addCriteria(Criteria.where("id").gt(lastAccountId));
+    }
+
+    return mongoTemplate.find(query, AccountDocument.class)
+        .map(AccountDocument::getId);
+  }
+
+  private Mono<Boolean> queue(final List<String> accountIds) {
+    if (accountIds.isEmpty()) {
+      return complete();
+    }
+
+    final var lastAccountId = accountIds.get(accountIds.size() - 1);
+
+    return mongoTemplate.insertAll(accountIds.stream()
+            .map(this::toSnapshotOutbox)
+            .toList())
+        .then(saveProgress(new Update().set("lastAccountId", lastAccountId)))
+        .then(Mono.defer(() -> accountIds.size() < batchSize
+            ? complete()
+            : backfillAfter(lastAccountId)));
+  }
+
+  private Mono<Boolean> complete() {
+    final var marker = new AccountSnapshotOutboxDocument();
+    marker.setBackfillCompleted(true);
+    marker.setCreatedAt(Instant.now());
+
+    return mongoTemplate.insert(marker)
+        .then(saveProgress(new Update().set("completedAt", marker.getCreatedAt())))
+        .doOnSuccess(completed -> log.info("Account snapshot backfill queued"))
+        .thenReturn(true);
+  }
+
+  private Mono<Void> saveProgress(final Update update) {
+    return mongoTemplate.upsert(new Query().addCriteria(Criteria.where("id").is(LEASE_NAME)),
+            update, AccountSnapshotBackfillDocument.class)
+        .then();
+  }
+
+  private AccountSnapshotOutboxDocument toSnapshotOutbox(final String accountId) {
+    final var event = new AccountSnapshotOutboxDocument();
+    event.setAccountId(accountId);
+    event.setType(AccountChangeType.UPDATED);
+    event.setCreatedAt(Instant.now());
+    return event;
+  }
+
+}
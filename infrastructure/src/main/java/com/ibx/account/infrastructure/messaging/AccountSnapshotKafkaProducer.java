@@ -0,0 +1,163 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.messaging.AccountSnapshotProducer;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountMessagingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Publishes account snapshots to a log compacted topic keyed by account id. Deletes are sent as
+ * tombstones so compaction eventually drops the account from the topic. Every record carries the
+ * time of the change it holds, so a consumer that also applies changes from elsewhere can drop
+ * the ones older than what it holds. The backfill marker goes to a separate compacted control
+ * topic, so consumers of the snapshot topic only ever see account keys.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountSnapshotKafkaProducer implements AccountSnapshotProducer {
+
+  public static final String BACKFILL_COMPLETED_KEY = "_backfill_completed";
+
+  public static final String CHANGED_AT_HEADER = "changed-at";
+
+  private static final String SEND_METRIC = "account.kafka.send";
+
+  private static final String CONTENT_TYPE_HEADER = "content-type";
+
+  private static final String EVENT_TYPE_HEADER = "event-type";
+
+  private static final String ACCOUNT_CREATED = "AccountCreated";
+
+  private static final String ACCOUNT_UPDATED = "AccountUpdated";
+
+  private static final String ACCOUNT_DELETED = "AccountDeleted";
+
+  private static final String BACKFILL_COMPLETED = "AccountSnapshotBackfillCompleted";
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  private final AccountEventSerializer accountEventSerializer;
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.kafka.topic.account-snapshot}")
+  private String accountSnapshotTopic;
+
+  @Value("${app.kafka.topic.account-snapshot-control:${app.kafka.topic.account-snapshot}-control}")
+  private String accountSnapshotControlTopic;
+
+  @Override
+  public Mono<Void> send(final List<AccountChange> changes) {
+    // every record is handed to the producer in list order from one thread, so the records keep
+    // that order on their partition, and only then are the acks awaited, in the same order
+    return Mono.fromCallable(() -> changes.stream()
+            .map(this::dispatch)
+            .toList())
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapMany(Flux::fromIterable)
+        .concatMap(Function.identity())
+        .then();
+  }
+
+  @Override
+  public Mono<Void> sendBackfillCompleted(final Instant completedAt) {
+    return Mono.fromCallable(() -> {
+          final var producerRecord = new ProducerRecord<>(accountSnapshotControlTopic,
+              BACKFILL_COMPLETED_KEY, completedAt.toString().getBytes(StandardCharsets.UTF_8));
+          producerRecord.headers().add(EVENT_TYPE_HEADER,
+              BACKFILL_COMPLETED.getBytes(StandardCharsets.UTF_8));
+          return dispatch(BACKFILL_COMPLETED, BACKFILL_COMPLETED_KEY, producerRecord);
+        })
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(Function.identity());
+  }
+
+  private Mono<Void> dispatch(final AccountChange change) {
+    final var eventType = toEventType(change.type());
+
+    try {
+      return dispatch(eventType, change.id(), buildRecord(eventType, change));
+    } catch (final IOException | RuntimeException exception) {
+      return Mono.error(toMessagingException(eventType, change.id(), exception));
+    }
+  }
+
+  private Mono<Void> dispatch(final String eventType, final String key,
+      final ProducerRecord<String, byte[]> producerRecord) {
+    try {
+      final var sample = Timer.start(meterRegistry);
+
+      return Mono.fromFuture(kafkaTemplate.send(producerRecord))
+          .doOnSuccess(sendResult -> sample.stop(sendTimer("success")))
+          .doOnError(throwable -> sample.stop(sendTimer("failure")))
+          .onErrorMap(throwable -> toMessagingException(eventType, key, throwable))
+          .then();
+    } catch (final RuntimeException exception) {
+      return Mono.error(toMessagingException(eventType, key, exception));
+    }
+  }
+
+  private AccountMessagingException toMessagingException(final String eventType,
+      final String accountId, final Throwable throwable) {
+    log.error("Error publishing {} snapshot for account: {}", eventType, accountId, throwable);
+
+    final var exception = new AccountMessagingException(
+        ErrorsEnum.ACCOUNT_SNAPSHOT_NOT_PUBLISHED);
+    exception.initCause(throwable);
+    return exception;
+  }
+
+  private ProducerRecord<String, byte[]> buildRecord(final String eventType,
+      final AccountChange change) throws IOException {
+    final var value = change.type() == AccountChangeType.DELETED
+        ? null
+        : accountEventSerializer.serialize(change.account());
+    final var producerRecord = new ProducerRecord<>(accountSnapshotTopic, change.id(), value);
+    producerRecord.headers().add(EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+
+    if (change.changedAt() != null) {
+      producerRecord.headers().add(CHANGED_AT_HEADER,
+          change.changedAt().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    if (value != null) {
+      producerRecord.headers().add(CONTENT_TYPE_HEADER,
+          accountEventSerializer.contentType().getBytes(StandardCharsets.UTF_8));
+    }
+
+    return producerRecord;
+  }
+
+  private String toEventType(final AccountChangeType type) {
+    return switch (type) {
+      case CREATED -> ACCOUNT_CREATED;
+      case UPDATED -> ACCOUNT_UPDATED;
+      case DELETED -> ACCOUNT_DELETED;
+    };
+  }
+
+  private Timer sendTimer(final String result) {
+    return Timer.builder(SEND_METRIC)
+        .tag("topic", accountSnapshotTopic)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,102 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.messaging.AccountSnapshotProducer;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.infrastructure.mapper.AccountDocumentMapper;
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotOutboxDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drains the account snapshot outbox to the compacted snapshot topic. Each event only names the
+ * account that changed, the snapshot sent is the account as stored when the batch is relayed, so
+ * an account that no longer exists is sent as a tombstone if it was deleted and skipped
+ * otherwise. Writes record their event in the same transaction as the account, so an event is
+ * only ever read once the change it names is committed. The backfill marker is only sent once
+ * every snapshot before it in the batch was acknowledged.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account.outbox.relay.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class AccountSnapshotOutboxRelay extends OutboxRelay<AccountSnapshotOutboxDocument> {
+
+  static final String LEASE_NAME = "account_snapshot_outbox";
+
+  static final String DEAD_LETTER_COLLECTION = LEASE_NAME + DEAD_LETTER_SUFFIX;
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  private final AccountSnapshotProducer accountSnapshotProducer;
+
+  private final AccountDocumentMapper accountDocumentMapper;
+
+  public AccountSnapshotOutboxRelay(final ReactiveMongoTemplate mongoTemplate,
+      final AccountSnapshotProducer accountSnapshotProducer,
+      final AccountDocumentMapper accountDocumentMapper,
+      final OutboxLease outboxLease, final MeterRegistry meterRegistry,
+      @Value("${app.account.outbox.relay.batch-size:100}") final int batchSize,
+      @Value("${app.account.outbox.relay.poll-interval:1s}") final Duration pollInterval,
+      @Value("${app.account.outbox.relay.min-backoff:1s}") final Duration minBackoff,
+      @Value("${app.account.outbox.relay.max-backoff:1m}") final Duration maxBackoff,
+      @Value("${app.account.outbox.relay.max-attempts:5}") final int maxAttempts) {
+    super(mongoTemplate, outboxLease, meterRegistry, AccountSnapshotOutboxDocument.class,
+        LEASE_NAME, batchSize, pollInterval, minBackoff, maxBackoff, maxAttempts);
+    this.mongoTemplate = mongoTemplate;
+    this.accountSnapshotProducer = accountSnapshotProducer;
+    this.accountDocumentMapper = accountDocumentMapper;
+  }
+
+  @Override
+  protected Mono<Void> publish(final List<AccountSnapshotOutboxDocument> events) {
+    final var query = new Query().addCriteria(Criteria.where("id").in(events.stream()
+        .map(AccountSnapshotOutboxDocument::getAccountId)
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList()));
+    query.fields().exclude("password");
+
+    return mongoTemplate.find(query, AccountDocument.class)
+        .collectMap(AccountDocument::getId, accountDocumentMapper::toDomain)
+        .flatMap(accounts -> accountSnapshotProducer.send(events.stream()
+            .filter(event -> !event.isBackfillCompleted())
+            .flatMap(event -> toChange(event, accounts).stream())
+            .toList()))
+        .then(Mono.defer(() -> events.stream()
+            .filter(AccountSnapshotOutboxDocument::isBackfillCompleted)
+            .findFirst()
+            .map(marker -> accountSnapshotProducer.sendBackfillCompleted(marker.getCreatedAt()))
+            .orElseGet(Mono::empty)));
+  }
+
+  private Optional<AccountChange> toChange(final AccountSnapshotOutboxDocument event,
+      final Map<String, Account> accounts) {
+    final var account = accounts.get(event.getAccountId());
+
+    if (account == null) {
+      return event.getType() == AccountChangeType.DELETED
+          ? Optional.of(AccountChange.deleted(event.getAccountId(), event.getCreatedAt()))
+          : Optional.empty();
+    }
+
+    return switch (event.getType()) {
+      case CREATED -> Optional.of(AccountChange.created(account, account.updatedAt()));
+      case UPDATED -> Optional.of(AccountChange.updated(account, account.updatedAt()));
+      case DELETED -> Optional.empty();
+    };
+  }
+
+}
@@ -0,0 +1,67 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.messaging.AccountInvalidationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+/**
+ * Queues invalidated account ids and publishes them on the invalidation bus in batches of up to a
+ * maximum size or a maximum wait, dropping duplicate ids within a batch.
+ */
+@Component
+@Slf4j
+public class BatchingAccountInvalidationPublisher implements AccountInvalidationPublisher {
+
+  private final DistributionSummary batchSize;
+
+  private final Counter duplicates;
+
+  private final FluxSink<String> pending;
+
+  public BatchingAccountInvalidationPublisher(
+      final AccountInvalidationBus accountInvalidationBus, final MeterRegistry meterRegistry,
+      @Value("${app.account.invalidation.max-batch-size:100}") final int maxBatchSize,
+      @Value("${app.account.invalidation.max-wait:50ms}") final Duration maxWait) {
+    this.batchSize = DistributionSummary.builder("account.invalidation.batch.size")
+        .register(meterRegistry);
+    this.duplicates = Counter.builder("account.invalidation.duplicates")
+        .register(meterRegistry);
+
+    final var sink = new AtomicReference<FluxSink<String>>();
+
+    Flux.<String>create(sink::set)
+        .bufferTimeout(maxBatchSize, maxWait)
+        .concatMap(batch -> {
+          final var accountIds = new LinkedHashSet<>(batch);
+          batchSize.record(accountIds.size());
+          duplicates.increment(batch.size() - accountIds.size());
+
+          return accountInvalidationBus.publish(accountIds)
+              .onErrorResume(throwable -> {
+                log.error("Error publishing {} account invalidations", accountIds.size(),
+                    throwable);
+                return Mono.empty();
+              });
+        })
+        .subscribe();
+
+    this.pending = sink.get();
+  }
+
+  @Override
+  public Mono<Void> publish(final Collection<String> accountIds) {
+    return Mono.fromRunnable(() -> accountIds.forEach(pending::next));
+  }
+
+}
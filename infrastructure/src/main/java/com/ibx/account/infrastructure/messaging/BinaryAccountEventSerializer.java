@@ -0,0 +1,178 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.model.Account;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versioned tag-length-value encoding of account events. The first byte is the format version,
+ * followed by one entry per non null field: a tag byte, the UTF-8 length as an unsigned varint and
+ * the UTF-8 bytes. Consumers skip tags they do not know, so fields can be added without a version
+ * bump. The size is computed upfront and the whole event is written into a single array. It is
+ * opt in with app.kafka.event-format=binary, once every consumer of the topics can read it.
+ */
+@Component
+@ConditionalOnProperty(name = "app.kafka.event-format", havingValue = "binary")
+public class BinaryAccountEventSerializer implements AccountEventSerializer {
+
+  static final byte FORMAT_VERSION = 1;
+
+  static final byte ID_TAG = 1;
+
+  static final byte USERNAME_TAG = 2;
+
+  static final byte FIRST_NAME_TAG = 3;
+
+  static final byte LAST_NAME_TAG = 4;
+
+  private static final String CONTENT_TYPE = "application/vnd.ibx.account-event.v1+binary";
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public byte[] serialize(final Account account) {
+    final var buffer = new byte[1 + fieldSize(account.id()) + fieldSize(account.username())
+        + fieldSize(account.firstName()) + fieldSize(account.lastName())];
+    buffer[0] = FORMAT_VERSION;
+
+    var offset = writeField(buffer, 1, ID_TAG, account.id());
+    offset = writeField(buffer, offset, USERNAME_TAG, account.username());
+    offset = writeField(buffer, offset, FIRST_NAME_TAG, account.firstName());
+    writeField(buffer, offset, LAST_NAME_TAG, account.lastName());
+
+    return buffer;
+  }
+
+  @Override
+  public Account deserialize(final byte[] event) throws IOException {
+    if (event.length == 0 || event[0] != FORMAT_VERSION) {
+      throw new IOException("Unsupported account event format version");
+    }
+
+    final var fields = new String[LAST_NAME_TAG + 1];
+    var offset = 1;
+
+    while (offset < event.length) {
+      final var tag = event[offset++];
+      var length = 0;
+      var shift = 0;
+      byte current;
+
+      do {
+        if (offset >= event.length || shift > 28) {
+          throw new IOException("Malformed account event field length");
+        }
+        current = event[offset++];
+        length |= (current & 0x7F) << shift;
+        shift += 7;
+      } while ((current & 0x80) != 0);
+
+      if (length < 0 || length > event.length - offset) {
+        throw new IOException("Truncated account event field");
+      }
+
+      if (tag > 0 && tag < fields.length) {
+        fields[tag] = new String(event, offset, length, StandardCharsets.UTF_8);
+      }
+      offset += length;
+    }
+
+    return new Account(fields[ID_TAG], fields[USERNAME_TAG], null, fields[FIRST_NAME_TAG],
+        fields[LAST_NAME_TAG]);
+  }
+
+  private int fieldSize(final String value) {
+    if (value == null) {
+      return 0;
+    }
+
+    final var length = utf8Length(value);
+    return 1 + varIntSize(length) + length;
+  }
+
+  private int writeField(final byte[] buffer, final int offset, final byte tag,
+      final String value) {
+    if (value == null) {
+      return offset;
+    }
+
+    buffer[offset] = tag;
+    return writeUtf8(buffer, writeVarInt(buffer, offset + 1, utf8Length(value)), value);
+  }
+
+  private int varIntSize(final int value) {
+    var size = 1;
+    for (var remaining = value >>> 7; remaining != 0; remaining >>>= 7) {
+      size++;
+    }
+    return size;
+  }
+
+  private int writeVarInt(final byte[] buffer, final int offset, final int value) {
+    var position = offset;
+    var remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    buffer[position++] = (byte) remaining;
+    return position;
+  }
+
+  private int utf8Length(final String value) {
+    var length = 0;
+    for (var i = 0; i < value.length(); i++) {
+      final var c = value.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (isSurrogatePair(value, i)) {
+        length += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        length += 1;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private int writeUtf8(final byte[] buffer, final int offset, final String value) {
+    var position = offset;
+    for (var i = 0; i < value.length(); i++) {
+      final var c = value.charAt(i);
+      if (c < 0x80) {
+        buffer[position++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (isSurrogatePair(value, i)) {
+        final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        buffer[position++] = '?';
+      } else {
+        buffer[position++] = (byte) (0xE0 | (c >> 12));
+        buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    return position;
+  }
+
+  private boolean isSurrogatePair(final String value, final int index) {
+    return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(index + 1));
+  }
+
+}
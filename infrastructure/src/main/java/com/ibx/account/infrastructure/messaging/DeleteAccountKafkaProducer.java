@@ -1,34 +1,97 @@
 package com.ibx.account.infrastructure.messaging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibx.account.domain.messaging.DeleteAccountProducer;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountMessagingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DeleteAccountKafkaProducer implements DeleteAccountProducer {
 
-  private final KafkaTemplate<String, String> kafkaTemplate;
+  private static final String SEND_METRIC = "account.kafka.send";
 
-  private final ObjectMapper objectMapper;
+  private static final String CONTENT_TYPE_HEADER = "content-type";
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  private final AccountEventSerializer accountEventSerializer;
+
+  private final MeterRegistry meterRegistry;
 
   @Value("${app.kafka.topic.delete-account}")
   private String deleteAccountTopic;
 
   @Override
-  public void sendMessage(final String key, final @Payload Account account) {
+  public Mono<Void> sendMessages(final List<Account> accounts) {
+    // every record is handed to the producer in list order from one thread, so the records keep
+    // that order on their partition, and only then are the acks awaited, in the same order
+    return Mono.fromCallable(() -> accounts.stream()
+            .map(account -> dispatch(account.id(), account))
+            .toList())
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapMany(Flux::fromIterable)
+        .concatMap(Function.identity())
+        .then();
+  }
+
+  private Mono<Void> dispatch(final String key, final Account account) {
     try {
-      kafkaTemplate.send(deleteAccountTopic, key, objectMapper.writeValueAsString(account));
-    } catch (JsonProcessingException e) {
-      log.info("Error in account delete message format for account: {}", key);
+      final var message = accountEventSerializer.serialize(account);
+      final var sample = Timer.start(meterRegistry);
+
+      // send blocks up to max.block.ms while the broker is unreachable or the buffer is full
+      return Mono.fromFuture(kafkaTemplate.send(buildRecord(key, message)))
+          .doOnSuccess(sendResult -> sample.stop(sendTimer("success")))
+          .doOnError(throwable -> sample.stop(sendTimer("failure")))
+          .onErrorMap(throwable -> toMessagingException(key, throwable))
+          .then();
+    } catch (final IOException | RuntimeException exception) {
+      return Mono.error(toMessagingException(key, exception));
+    }
+  }
+
+  private AccountMessagingException toMessagingException(final String key,
+      final Throwable throwable) {
+    if (throwable instanceof IOException) {
+      log.error("Error in account delete message format for account: {}", key, throwable);
+    } else {
+      log.error("Error publishing account delete message for account: {}", key, throwable);
     }
+
+    final var exception = new AccountMessagingException(
+        ErrorsEnum.DELETE_ACCOUNT_EVENT_NOT_PUBLISHED);
+    exception.initCause(throwable);
+    return exception;
+  }
+
+  private ProducerRecord<String, byte[]> buildRecord(final String key, final byte[] message) {
+    final var producerRecord = new ProducerRecord<>(deleteAccountTopic, key, message);
+    producerRecord.headers().add(CONTENT_TYPE_HEADER,
+        accountEventSerializer.contentType().getBytes(StandardCharsets.UTF_8));
+    return producerRecord;
+  }
+
+  private Timer sendTimer(final String result) {
+    return Timer.builder(SEND_METRIC)
+        .tag("topic", deleteAccountTopic)
+        .tag("result", result)
+        .register(meterRegistry);
   }
 }
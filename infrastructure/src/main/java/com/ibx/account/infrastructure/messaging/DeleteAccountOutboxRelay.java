@@ -0,0 +1,54 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.messaging.DeleteAccountProducer;
+import com.ibx.account.infrastructure.mapper.DeleteAccountOutboxMapper;
+import com.ibx.account.infrastructure.model.DeleteAccountOutboxDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drains the delete account outbox to the delete account topic. The matching snapshot tombstones
+ * are relayed by {@link AccountSnapshotOutboxRelay}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account.outbox.relay.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class DeleteAccountOutboxRelay extends OutboxRelay<DeleteAccountOutboxDocument> {
+
+  static final String LEASE_NAME = "account_delete_outbox";
+
+  static final String DEAD_LETTER_COLLECTION = LEASE_NAME + DEAD_LETTER_SUFFIX;
+
+  private final DeleteAccountProducer deleteAccountProducer;
+
+  private final DeleteAccountOutboxMapper deleteAccountOutboxMapper;
+
+  public DeleteAccountOutboxRelay(final ReactiveMongoTemplate mongoTemplate,
+      final DeleteAccountProducer deleteAccountProducer,
+      final DeleteAccountOutboxMapper deleteAccountOutboxMapper,
+      final OutboxLease outboxLease, final MeterRegistry meterRegistry,
+      @Value("${app.account.outbox.relay.batch-size:100}") final int batchSize,
+      @Value("${app.account.outbox.relay.poll-interval:1s}") final Duration pollInterval,
+      @Value("${app.account.outbox.relay.min-backoff:1s}") final Duration minBackoff,
+      @Value("${app.account.outbox.relay.max-backoff:1m}") final Duration maxBackoff,
+      @Value("${app.account.outbox.relay.max-attempts:5}") final int maxAttempts) {
+    super(mongoTemplate, outboxLease, meterRegistry, DeleteAccountOutboxDocument.class,
+        LEASE_NAME, batchSize, pollInterval, minBackoff, maxBackoff, maxAttempts);
+    this.deleteAccountProducer = deleteAccountProducer;
+    this.deleteAccountOutboxMapper = deleteAccountOutboxMapper;
+  }
+
+  @Override
+  protected Mono<Void> publish(final List<DeleteAccountOutboxDocument> events) {
+    return deleteAccountProducer.sendMessages(events.stream()
+        .map(deleteAccountOutboxMapper::toDomain)
+        .toList());
+  }
+
+}
@@ -0,0 +1,42 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibx.account.domain.model.Account;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.kafka.event-format", havingValue = "json",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+public class JsonAccountEventSerializer implements AccountEventSerializer {
+
+  private static final String CONTENT_TYPE = "application/json";
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public byte[] serialize(final Account account) throws IOException {
+    return objectMapper.writeValueAsBytes(new AccountEvent(account.id(), account.username(),
+        account.firstName(), account.lastName()));
+  }
+
+  @Override
+  public Account deserialize(final byte[] event) throws IOException {
+    final var accountEvent = objectMapper.readValue(event, AccountEvent.class);
+    return new Account(accountEvent.id(), accountEvent.username(), null,
+        accountEvent.firstName(), accountEvent.lastName());
+  }
+
+  record AccountEvent(String id, String username, String firstName, String lastName) {
+
+  }
+
+}
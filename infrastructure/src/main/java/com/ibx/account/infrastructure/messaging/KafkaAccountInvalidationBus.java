@@ -0,0 +1,175 @@
+package com.ibx.account.infrastructure.messaging;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Kafka invalidation bus. Each batch is one small record holding the newline separated account
+ * ids and the id of the publishing node. Every node reads every partition from the end on its
+ * own consumer thread, skips the batches it published itself, since its local cache already
+ * reflects its own writes, and hands the distinct ids of each poll to the listeners.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account.invalidation.transport", havingValue = "kafka")
+@Slf4j
+public class KafkaAccountInvalidationBus implements AccountInvalidationBus {
+
+  private static final String ORIGIN_HEADER = "origin";
+
+  private static final byte SEPARATOR = '\n';
+
+  private static final Properties CONSUMER_OVERRIDES = new Properties();
+
+  static {
+    CONSUMER_OVERRIDES.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
+        StringDeserializer.class);
+    CONSUMER_OVERRIDES.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
+        ByteArrayDeserializer.class);
+    CONSUMER_OVERRIDES.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+  }
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  private final ConsumerFactory<String, byte[]> consumerFactory;
+
+  private final String topic;
+
+  private final Duration pollTimeout;
+
+  private final byte[] origin = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+  private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile boolean running;
+
+  private volatile org.apache.kafka.clients.consumer.Consumer<String, byte[]> consumer;
+
+  public KafkaAccountInvalidationBus(final KafkaTemplate<String, byte[]> kafkaTemplate,
+      final ConsumerFactory<String, byte[]> consumerFactory,
+      @Value("${app.kafka.topic.account-invalidation}") final String topic,
+      @Value("${app.account.invalidation.poll-timeout:500ms}") final Duration pollTimeout) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.consumerFactory = consumerFactory;
+    this.topic = topic;
+    this.pollTimeout = pollTimeout;
+  }
+
+  @Override
+  public Mono<Void> publish(final Set<String> accountIds) {
+    return Mono.fromFuture(() -> {
+          final var producerRecord = new ProducerRecord<String, byte[]>(topic,
+              String.join("\n", accountIds).getBytes(StandardCharsets.UTF_8));
+          producerRecord.headers().add(ORIGIN_HEADER, origin);
+          return kafkaTemplate.send(producerRecord);
+        })
+        .subscribeOn(Schedulers.boundedElastic())
+        .then();
+  }
+
+  @Override
+  public void subscribe(final Consumer<Set<String>> listener) {
+    listeners.add(listener);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    running = true;
+
+    final var pollThread = new Thread(this::run, "account-invalidation");
+    pollThread.setDaemon(true);
+    pollThread.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+
+    final var currentConsumer = consumer;
+    if (Objects.nonNull(currentConsumer)) {
+      currentConsumer.wakeup();
+    }
+  }
+
+  void seekToEnd(final org.apache.kafka.clients.consumer.Consumer<String, byte[]> busConsumer) {
+    final var partitions = busConsumer.partitionsFor(topic).stream()
+        .map(partitionInfo -> new TopicPartition(topic, partitionInfo.partition()))
+        .toList();
+
+    busConsumer.assign(partitions);
+    busConsumer.seekToEnd(partitions);
+  }
+
+  void poll(final org.apache.kafka.clients.consumer.Consumer<String, byte[]> busConsumer) {
+    final var accountIds = new LinkedHashSet<String>();
+
+    busConsumer.poll(pollTimeout).forEach(invalidation -> {
+      final var invalidationOrigin = invalidation.headers().lastHeader(ORIGIN_HEADER);
+
+      if (Objects.isNull(invalidation.value()) || (Objects.nonNull(invalidationOrigin)
+          && Arrays.equals(origin, invalidationOrigin.value()))) {
+        return;
+      }
+
+      addAccountIds(invalidation.value(), accountIds);
+    });
+
+    if (!accountIds.isEmpty()) {
+      listeners.forEach(listener -> listener.accept(accountIds));
+    }
+  }
+
+  private void addAccountIds(final byte[] value, final Set<String> accountIds) {
+    var start = 0;
+    for (var i = 0; i <= value.length; i++) {
+      if (i == value.length || value[i] == SEPARATOR) {
+        if (i > start) {
+          accountIds.add(new String(value, start, i - start, StandardCharsets.UTF_8));
+        }
+        start = i + 1;
+      }
+    }
+  }
+
+  private void run() {
+    try (var busConsumer = consumerFactory.createConsumer(null, null, null,
+        CONSUMER_OVERRIDES)) {
+      consumer = busConsumer;
+      seekToEnd(busConsumer);
+
+      while (running) {
+        poll(busConsumer);
+      }
+    } catch (final WakeupException exception) {
+      log.info("Account invalidation consumer stopped");
+    } catch (final RuntimeException exception) {
+      log.error("Account invalidation consumer stopped, caches only expire by time", exception);
+    }
+  }
+
+}
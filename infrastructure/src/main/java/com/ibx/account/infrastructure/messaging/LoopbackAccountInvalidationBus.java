@@ -0,0 +1,61 @@
+package com.ibx.account.infrastructure.messaging;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process invalidation bus for single node deployments and tests without a broker. A batch is
+ * handed to the listeners of every bus connected to the same channel, each one standing for a
+ * node, except the bus that published it, the same origin check the Kafka bus makes, since a
+ * node's cache already reflects its own writes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account.invalidation.transport", havingValue = "loopback",
+    matchIfMissing = true)
+public class LoopbackAccountInvalidationBus implements AccountInvalidationBus {
+
+  private final List<LoopbackAccountInvalidationBus> channel;
+
+  private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+  public LoopbackAccountInvalidationBus() {
+    this(new CopyOnWriteArrayList<>());
+  }
+
+  private LoopbackAccountInvalidationBus(final List<LoopbackAccountInvalidationBus> channel) {
+    this.channel = channel;
+    channel.add(this);
+  }
+
+  /**
+   * Creates a bus for another node on the same channel as this one.
+   */
+  public LoopbackAccountInvalidationBus connect() {
+    return new LoopbackAccountInvalidationBus(channel);
+  }
+
+  @Override
+  public Mono<Void> publish(final Set<String> accountIds) {
+    return Mono.fromRunnable(() -> channel.forEach(bus -> bus.deliver(this, accountIds)));
+  }
+
+  @Override
+  public void subscribe(final Consumer<Set<String>> listener) {
+    listeners.add(listener);
+  }
+
+  private void deliver(final LoopbackAccountInvalidationBus origin,
+      final Set<String> accountIds) {
+    if (origin == this) {
+      return;
+    }
+
+    listeners.forEach(listener -> listener.accept(accountIds));
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.domain.messaging.AccountChangeNotifier;
+import com.ibx.account.domain.model.AccountChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-process multicast of account changes. Every subscriber gets its own bounded buffer, and once
+ * it is full the oldest pending change is dropped, so one slow client neither holds back the
+ * others nor the writes publishing into the sink. Only subscribers present when a change is
+ * published receive it; clients that need every change use the delta sync to catch up.
+ */
+@Component
+public class MulticastAccountChangeNotifier implements AccountChangeNotifier {
+
+  private final Sinks.Many<AccountChange> sink = Sinks.many().multicast().directBestEffort();
+
+  private final int bufferSize;
+
+  private final Counter droppedChanges;
+
+  public MulticastAccountChangeNotifier(final MeterRegistry meterRegistry,
+      @Value("${app.account.notifications.buffer-size:256}") final int bufferSize) {
+    this.bufferSize = bufferSize;
+    this.droppedChanges = meterRegistry.counter("account.notifications.dropped");
+    Gauge.builder("account.notifications.subscribers", sink, Sinks.Many::currentSubscriberCount)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Void> publish(final AccountChange accountChange) {
+    return Mono.fromRunnable(() -> emit(accountChange));
+  }
+
+  @Override
+  public Flux<AccountChange> subscribe() {
+    return sink.asFlux()
+        .onBackpressureBuffer(bufferSize, droppedChange -> droppedChanges.increment(),
+            BufferOverflowStrategy.DROP_OLDEST);
+  }
+
+  private synchronized void emit(final AccountChange accountChange) {
+    sink.tryEmitNext(accountChange);
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.infrastructure.model.OutboxLeaseDocument;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Named leases kept in Mongo so a single node at a time relays each outbox. Acquiring renews a
+ * lease this node already holds, or takes it over once the previous holder let it expire, in one
+ * conditional upsert: when another node holds it the upsert collides with the existing lease on
+ * its id and acquiring reports false. A node that dies hands over after at most one lease
+ * duration, which must therefore exceed both the clock skew between nodes and the time a batch
+ * can take to exhaust its retries.
+ */
+@Component
+public class OutboxLease {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  private final Duration leaseDuration;
+
+  private final String owner = UUID.randomUUID().toString();
+
+  public OutboxLease(final ReactiveMongoTemplate mongoTemplate,
+      @Value("${app.account.outbox.relay.lease-duration:2m}") final Duration leaseDuration) {
+    this.mongoTemplate = mongoTemplate;
+    this.leaseDuration = leaseDuration;
+  }
+
+  public Mono<Boolean> acquire(final String name) {
+    return Mono.defer(() -> {
+      final var now = Instant.now();
+      final var query = new Query().addCriteria(Criteria.where("id").is(name)
+          .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+      final var update = new Update()
+          .set("owner", owner)
+          .set("expiresAt", now.plus(leaseDuration));
+
+      return mongoTemplate.upsert(query, update, OutboxLeaseDocument.class)
+          .thenReturn(true)
+          .onErrorResume(DuplicateKeyException.class, exception -> Mono.just(false));
+    });
+  }
+
+}
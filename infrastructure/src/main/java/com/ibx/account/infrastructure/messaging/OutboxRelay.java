@@ -0,0 +1,177 @@
+package com.ibx.account.infrastructure.messaging;
+
+import com.ibx.account.infrastructure.model.OutboxDocument;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Drains an outbox collection to Kafka. Only the node holding the lease named after the outbox
+ * relays, so events leave in insertion order even when every node runs the relay. Events are
+ * published a batch at a time and only removed once the broker acknowledged the whole batch,
+ * retrying the same batch with backoff a bounded number of times. A batch that still fails
+ * because the broker is unavailable stays in the outbox for the next poll, while a batch that can
+ * never be published, such as one the serializer or the broker rejects, is moved to the dead
+ * letter collection so it stops blocking the events behind it. Delivery is at least once: a crash
+ * between the ack and the removal publishes the batch again.
+ */
+@Slf4j
+public abstract class OutboxRelay<T extends OutboxDocument> {
+
+  static final String DEAD_LETTER_SUFFIX = "_dead_letter";
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  private final OutboxLease outboxLease;
+
+  private final Class<T> documentType;
+
+  private final String name;
+
+  private final int batchSize;
+
+  private final Duration pollInterval;
+
+  private final Duration minBackoff;
+
+  private final Duration maxBackoff;
+
+  private final int maxAttempts;
+
+  private final Counter relayedEvents;
+
+  private final Counter failedBatches;
+
+  private final Counter deadLetteredEvents;
+
+  private Disposable subscription;
+
+  protected OutboxRelay(final ReactiveMongoTemplate mongoTemplate,
+      final OutboxLease outboxLease, final MeterRegistry meterRegistry,
+      final Class<T> documentType, final String name, final int batchSize,
+      final Duration pollInterval, final Duration minBackoff, final Duration maxBackoff,
+      final int maxAttempts) {
+    this.mongoTemplate = mongoTemplate;
+    this.outboxLease = outboxLease;
+    this.documentType = documentType;
+    this.name = name;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.minBackoff = minBackoff;
+    this.maxBackoff = maxBackoff;
+    this.maxAttempts = maxAttempts;
+    this.relayedEvents = Counter.builder("account.outbox.relayed")
+        .tag("outbox", name)
+        .register(meterRegistry);
+    this.failedBatches = Counter.builder("account.outbox.relay.failures")
+        .tag("outbox", name)
+        .register(meterRegistry);
+    this.deadLetteredEvents = Counter.builder("account.outbox.dead-lettered")
+        .tag("outbox", name)
+        .register(meterRegistry);
+  }
+
+  protected abstract Mono<Void> publish(List<T> events);
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    subscription = Flux.interval(Duration.ZERO, pollInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> drain(), 1)
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  Mono<Long> drain() {
+    return relayBatch()
+        .expand(relayed -> relayed == batchSize ? relayBatch() : Mono.empty())
+        .reduce(0L, Long::sum);
+  }
+
+  private Mono<Long> relayBatch() {
+    return outboxLease.acquire(name)
+        .filter(Boolean::booleanValue)
+        .flatMap(leased -> mongoTemplate.find(new Query()
+                .with(Sort.by(Direction.ASC, "id"))
+                .limit(batchSize), documentType)
+            .collectList())
+        .filter(events -> !events.isEmpty())
+        .flatMap(this::relay)
+        .defaultIfEmpty(0L)
+        .onErrorResume(throwable -> {
+          log.error("Error reading the {} outbox", name, throwable);
+          return Mono.just(0L);
+        });
+  }
+
+  private Mono<Long> relay(final List<T> events) {
+    return publish(events)
+        .then(Mono.defer(() -> remove(events)))
+        .doOnError(throwable -> {
+          failedBatches.increment();
+          log.warn("Error relaying {} events from the {} outbox", events.size(), name);
+        })
+        .retryWhen(Retry.backoff(maxAttempts - 1L, minBackoff).maxBackoff(maxBackoff))
+        .doOnSuccess(deleteResult -> relayedEvents.increment(events.size()))
+        .thenReturn((long) events.size())
+        .onErrorResume(throwable -> {
+          if (!isUnpublishable(throwable)) {
+            log.error("Giving up relaying {} events from the {} outbox until the next poll",
+                events.size(), name, throwable);
+            return Mono.just(0L);
+          }
+
+          log.error("Moving {} unpublishable events to {}{}", events.size(), name,
+              DEAD_LETTER_SUFFIX, throwable);
+          return mongoTemplate.insert(events, name + DEAD_LETTER_SUFFIX)
+              .then(Mono.defer(() -> remove(events)))
+              .doOnSuccess(deleteResult -> deadLetteredEvents.increment(events.size()))
+              .thenReturn((long) events.size());
+        });
+  }
+
+  private Mono<DeleteResult> remove(final List<T> events) {
+    return mongoTemplate.remove(new Query().addCriteria(Criteria.where("id")
+        .in(events.stream().map(OutboxDocument::getId).toList())), documentType);
+  }
+
+  static boolean isUnpublishable(final Throwable throwable) {
+    for (var cause = throwable; Objects.nonNull(cause); cause = cause.getCause()) {
+      if (cause instanceof RetriableException) {
+        return false;
+      }
+
+      if (cause instanceof IOException || cause instanceof KafkaException) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+}
@@ -1,5 +1,6 @@
 package com.ibx.account.infrastructure.model;
 
+import java.time.Instant;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
@@ -22,6 +23,8 @@ public class AccountDocument {
 
   private String lastName;
 
+  private Instant updatedAt;
+
   @Version
   private int version;
 
@@ -0,0 +1,21 @@
+package com.ibx.account.infrastructure.model;
+
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@Document("account_snapshot_backfill")
+public class AccountSnapshotBackfillDocument {
+
+  @Id
+  private String id;
+
+  private String lastAccountId;
+
+  private Instant completedAt;
+
+}
@@ -0,0 +1,26 @@
+package com.ibx.account.infrastructure.model;
+
+import com.ibx.account.domain.model.AccountChangeType;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@Document("account_snapshot_outbox")
+public class AccountSnapshotOutboxDocument implements OutboxDocument {
+
+  @Id
+  private String id;
+
+  private String accountId;
+
+  private AccountChangeType type;
+
+  private boolean backfillCompleted;
+
+  private Instant createdAt;
+
+}
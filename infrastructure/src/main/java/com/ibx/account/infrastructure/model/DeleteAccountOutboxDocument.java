@@ -0,0 +1,27 @@
+package com.ibx.account.infrastructure.model;
+
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@Document("account_delete_outbox")
+public class DeleteAccountOutboxDocument implements OutboxDocument {
+
+  @Id
+  private String id;
+
+  private String accountId;
+
+  private String username;
+
+  private String firstName;
+
+  private String lastName;
+
+  private Instant createdAt;
+
+}
@@ -0,0 +1,7 @@
+package com.ibx.account.infrastructure.model;
+
+public interface OutboxDocument {
+
+  String getId();
+
+}
@@ -0,0 +1,67 @@
+package com.ibx.account.infrastructure.repository;
+
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountTombstoneDocument;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes sure the account collection indexes exist once the singletons are created, which is
+ * before the web server starts and the application takes traffic. The unique username index is
+ * what enforces username uniqueness, so startup fails if any index cannot be created. The change
+ * indexes back the delta sync, and the tombstone one also expires deletions once they are older
+ * than the configured retention.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountIndexInitializer implements SmartInitializingSingleton {
+
+  static final String USERNAME_INDEX = "username_unique";
+
+  static final String UPDATED_AT_INDEX = "updated_at";
+
+  static final String DELETED_AT_INDEX = "deleted_at_ttl";
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  @Value("${app.account.changes.tombstone-retention:30d}")
+  private Duration tombstoneRetention;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    final var indexName = mongoTemplate.indexOps(AccountDocument.class)
+        .ensureIndex(new Index()
+            .on("username", Direction.ASC)
+            .unique()
+            .named(USERNAME_INDEX))
+        .block();
+
+    log.info("Account index ensured: {}", indexName);
+
+    final var updatedAtIndexName = mongoTemplate.indexOps(AccountDocument.class)
+        .ensureIndex(new Index()
+            .on("updatedAt", Direction.ASC)
+            .named(UPDATED_AT_INDEX))
+        .block();
+
+    log.info("Account index ensured: {}", updatedAtIndexName);
+
+    final var deletedAtIndexName = mongoTemplate.indexOps(AccountTombstoneDocument.class)
+        .ensureIndex(new Index()
+            .on("deletedAt", Direction.ASC)
+            .expire(tombstoneRetention)
+            .named(DELETED_AT_INDEX))
+        .block();
+
+    log.info("Account tombstone index ensured: {}", deletedAtIndexName);
+  }
+
+}
@@ -1,16 +1,44 @@
 package com.ibx.account.infrastructure.repository;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
 import com.ibx.account.domain.repository.AccountRepository;
 import com.ibx.account.infrastructure.mapper.AccountDocumentMapper;
 import com.ibx.account.infrastructure.mapper.AccountErrorMapper;
+import com.ibx.account.infrastructure.mapper.AccountTombstoneMapper;
+import com.ibx.account.infrastructure.mapper.DeleteAccountOutboxMapper;
 import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotOutboxDocument;
+import com.ibx.account.infrastructure.model.AccountTombstoneDocument;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -24,45 +52,138 @@ public class AccountRepositoryImpl implements AccountRepository {
 
   private final AccountErrorMapper accountErrorMapper;
 
+  private final DeleteAccountOutboxMapper deleteAccountOutboxMapper;
+
+  private final AccountTombstoneMapper accountTombstoneMapper;
+
+  private final TransactionalOperator transactionalOperator;
+
+  @Value("${app.mongo.export.batch-size:500}")
+  private int exportBatchSize;
+
+  @Value("${app.account.changes.overlap:5s}")
+  private Duration changesOverlap;
+
   @Override
-  public Mono<Account> findById(final String id) {
-    return mongoTemplate.findById(id, AccountDocument.class)
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    final var query = withProjection(new Query()
+        .addCriteria(Criteria.where("id").is(id)), fields);
+
+    return mongoTemplate.findOne(query, AccountDocument.class)
         .map(accountDocumentMapper::toDomain)
         .onErrorMap(accountErrorMapper::mapMongoError);
   }
 
   @Override
-  public Mono<Account> findByUsername(final String username) {
-    final var query = new Query().addCriteria(Criteria.where("username").is(username));
+  public Flux<Account> findAllById(final Collection<String> ids,
+      final Set<AccountField> fields) {
+    final var query = withProjection(new Query()
+        .addCriteria(Criteria.where("id").in(ids)), fields);
 
-    return mongoTemplate.findOne(query, AccountDocument.class)
+    return mongoTemplate.find(query, AccountDocument.class)
         .map(accountDocumentMapper::toDomain)
         .onErrorMap(accountErrorMapper::mapMongoError);
   }
 
   @Override
-  public Mono<Account> findByUsernameAndIdNotIs(final String username, final String accountId) {
-    final var query = new Query()
-        .addCriteria(Criteria.where("username").is(username))
-        .addCriteria(Criteria.where("id").ne(accountId));
+  public Flux<Account> findAll(final String after, final int limit,
+      final Set<AccountField> fields) {
+    final var query = withProjection(new Query()
+        .with(Sort.by(Direction.ASC, "id"))
+        .limit(limit), fields);
 
-    return mongoTemplate.findOne(query, AccountDocument.class)
+    if (Objects.nonNull(after)) {
+      query.addCriteria(Criteria.where("id").gt(after));
+    }
+
+    return mongoTemplate.find(query, AccountDocument.class)
         .map(accountDocumentMapper::toDomain)
         .onErrorMap(accountErrorMapper::mapMongoError);
   }
 
   @Override
-  public Flux<Account> findAll() {
-    return mongoTemplate.findAll(AccountDocument.class)
+  public Flux<Account> streamAll(final Set<AccountField> fields) {
+    final var query = withProjection(new Query()
+        .with(Sort.by(Direction.ASC, "id"))
+        .cursorBatchSize(exportBatchSize), fields);
+
+    return mongoTemplate.find(query, AccountDocument.class)
+        .limitRate(exportBatchSize)
         .map(accountDocumentMapper::toDomain)
         .onErrorMap(accountErrorMapper::mapMongoError);
   }
 
+  @Override
+  public Flux<AccountChange> findChangesSince(final Instant since) {
+    // Timestamps come from each node's clock when the write is issued, so a write can become
+    // visible after a later one; reading back over the overlap window keeps it from being skipped
+    final var from = since.minus(changesOverlap);
+    final var accountsQuery = withProjection(new Query()
+        .addCriteria(Criteria.where("updatedAt").gte(from))
+        .with(Sort.by(Direction.ASC, "updatedAt"))
+        .cursorBatchSize(exportBatchSize), AccountField.ALL);
+    accountsQuery.fields().include("updatedAt");
+
+    final var tombstonesQuery = new Query()
+        .addCriteria(Criteria.where("deletedAt").gte(from))
+        .with(Sort.by(Direction.ASC, "deletedAt"))
+        .cursorBatchSize(exportBatchSize);
+
+    final var updated = mongoTemplate.find(accountsQuery, AccountDocument.class)
+        .map(accountDocument -> AccountChange.updated(
+            accountDocumentMapper.toDomain(accountDocument), accountDocument.getUpdatedAt()));
+    final var deleted = mongoTemplate.find(tombstonesQuery, AccountTombstoneDocument.class)
+        .map(tombstone -> AccountChange.deleted(tombstone.getAccountId(),
+            tombstone.getDeletedAt()));
+
+    return Flux.mergeComparing(Comparator.comparing(AccountChange::changedAt), updated, deleted)
+        .limitRate(exportBatchSize)
+        .onErrorMap(accountErrorMapper::mapMongoError);
+  }
+
   @Override
   public Mono<Account> save(final Account account) {
-    return mongoTemplate.save(accountDocumentMapper.toInfrastructure(account))
+    final var accountDocument = accountDocumentMapper.toInfrastructure(account);
+    accountDocument.setUpdatedAt(Instant.now());
+
+    return mongoTemplate.save(accountDocument)
+        .flatMap(savedDocument -> insertSnapshotOutbox(List.of(savedDocument.getId()),
+            AccountChangeType.CREATED).thenReturn(savedDocument))
+        .as(transactionalOperator::transactional)
         .map(accountDocumentMapper::toDomain)
-        .onErrorMap(accountErrorMapper::mapMongoError);
+        .onErrorMap(throwable -> accountErrorMapper.mapMongoError(throwable,
+            ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, account.username()));
+  }
+
+  @Override
+  public Flux<BulkItemResult> saveAll(final List<Account> accounts) {
+    final var documents = accounts.stream()
+        .map(accountDocumentMapper::toInfrastructure)
+        .toList();
+    final var updatedAt = Instant.now();
+    documents.forEach(document -> {
+      document.setId(ObjectId.get().toHexString());
+      document.setUpdatedAt(updatedAt);
+    });
+
+    return writeAll(allIndexes(documents.size()), Map.of(),
+            indexes -> findUsernameConflicts(indexes, index -> documents.get(index).getId(),
+                index -> documents.get(index).getUsername(),
+                ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS),
+            ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, indexes -> {
+              final var batch = indexes.stream().map(documents::get).toList();
+
+              return mongoTemplate.bulkOps(BulkMode.UNORDERED, AccountDocument.class)
+                  .insert(batch)
+                  .execute()
+                  .then(insertSnapshotOutbox(batch.stream().map(AccountDocument::getId).toList(),
+                      AccountChangeType.CREATED));
+            })
+        .flatMapIterable(errors -> IntStream.range(0, documents.size())
+            .mapToObj(index -> errors.containsKey(index)
+                ? BulkItemResult.failed(index, errors.get(index))
+                : BulkItemResult.created(index, documents.get(index).getId(), updatedAt))
+            .toList());
   }
 
   @Override
@@ -70,25 +191,255 @@ public class AccountRepositoryImpl implements AccountRepository {
     final var query = new Query()
         .addCriteria(Criteria.where("id").is(accountId));
 
-    final var update = new Update()
-        .set("username", account.username())
-        .set("password", account.password())
-        .set("firstName", account.firstName())
-        .set("lastName", account.lastName());
+    final var options = FindAndModifyOptions.options().returnNew(true);
 
-    return mongoTemplate.updateFirst(query, update, AccountDocument.class)
-        .flatMap(updateResult -> findById(accountId))
-        .onErrorMap(accountErrorMapper::mapMongoError);
+    return mongoTemplate.findAndModify(query, toUpdate(account, Instant.now()), options,
+            AccountDocument.class)
+        .flatMap(accountDocument -> insertSnapshotOutbox(List.of(accountId),
+            AccountChangeType.UPDATED).thenReturn(accountDocument))
+        .as(transactionalOperator::transactional)
+        .map(accountDocumentMapper::toDomain)
+        .onErrorMap(throwable -> accountErrorMapper.mapMongoError(throwable,
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS, account.username()));
   }
 
   @Override
-  public Mono<Void> deleteById(final String id) {
+  public Flux<BulkItemResult> updateAll(final List<Account> accounts) {
+    final var updatedAt = Instant.now();
+
+    return writeAll(allIndexes(accounts.size()), Map.of(),
+            indexes -> findMissingAccounts(accounts, indexes)
+                .flatMap(missing -> findUsernameConflicts(indexes.stream()
+                        .filter(index -> !missing.containsKey(index))
+                        .toList(), index -> accounts.get(index).id(),
+                    index -> accounts.get(index).username(),
+                    ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS)
+                    .map(conflicts -> {
+                      final Map<Integer, ErrorsEnum> errors = new HashMap<>(missing);
+                      errors.putAll(conflicts);
+                      return errors;
+                    })),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS, indexes -> {
+              final var bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED,
+                  AccountDocument.class);
+              indexes.forEach(index -> bulkOperations.updateOne(new Query()
+                      .addCriteria(Criteria.where("id").is(accounts.get(index).id())),
+                  toUpdate(accounts.get(index), updatedAt)));
+
+              return bulkOperations.execute()
+                  .then(insertSnapshotOutbox(indexes.stream()
+                      .map(index -> accounts.get(index).id())
+                      .toList(), AccountChangeType.UPDATED));
+            })
+        .flatMapIterable(errors -> IntStream.range(0, accounts.size())
+            .mapToObj(index -> new BulkItemResult(index, accounts.get(index).id(),
+                errors.get(index), errors.containsKey(index) ? null : updatedAt))
+            .toList());
+  }
+
+  @Override
+  public Mono<Account> findAndRemoveById(final String id) {
     final var query = new Query()
         .addCriteria(Criteria.where("id").is(id));
 
-    return mongoTemplate.remove(query, AccountDocument.class)
-        .onErrorMap(accountErrorMapper::mapMongoError)
+    final var deletedAt = Instant.now();
+
+    return mongoTemplate.findAndRemove(query, AccountDocument.class)
+        .flatMap(accountDocument -> mongoTemplate
+            .insert(deleteAccountOutboxMapper.toOutbox(accountDocument))
+            .then(mongoTemplate.insert(accountTombstoneMapper.toTombstone(accountDocument,
+                deletedAt)))
+            .then(mongoTemplate.insert(toSnapshotOutbox(accountDocument.getId(),
+                AccountChangeType.DELETED)))
+            .thenReturn(accountDocument))
+        .as(transactionalOperator::transactional)
+        .map(accountDocument -> toRemovedAccount(accountDocument, deletedAt))
+        .onErrorMap(accountErrorMapper::mapMongoError);
+  }
+
+  @Override
+  public Flux<Account> findAllAndRemoveById(final Collection<String> ids) {
+    final var query = new Query()
+        .addCriteria(Criteria.where("id").in(ids));
+
+    final var deletedAt = Instant.now();
+
+    return mongoTemplate.findAllAndRemove(query, AccountDocument.class)
+        .collectList()
+        .filter(accountDocuments -> !accountDocuments.isEmpty())
+        .flatMapMany(accountDocuments -> mongoTemplate
+            .insertAll(accountDocuments.stream()
+                .map(deleteAccountOutboxMapper::toOutbox)
+                .toList())
+            .thenMany(mongoTemplate.insertAll(accountDocuments.stream()
+                .map(accountDocument -> accountTombstoneMapper.toTombstone(accountDocument,
+                    deletedAt))
+                .toList()))
+            .thenMany(mongoTemplate.insertAll(accountDocuments.stream()
+                .map(accountDocument -> toSnapshotOutbox(accountDocument.getId(),
+                    AccountChangeType.DELETED))
+                .toList()))
+            .thenMany(Flux.fromIterable(accountDocuments)))
+        .as(transactionalOperator::transactional)
+        .map(accountDocument -> toRemovedAccount(accountDocument, deletedAt))
+        .onErrorMap(accountErrorMapper::mapMongoError);
+  }
+
+  /**
+   * Writes the given items in one transaction and returns the errors per item. Each round first
+   * looks up, inside the transaction, the items that would fail, then runs a single bulk write of
+   * the others, which records their snapshot outbox events. A write error still aborts the whole
+   * transaction, for instance when a concurrent write takes a username after the lookup, so the
+   * items it reports are set aside and the others written again in a new round.
+   */
+  private Mono<Map<Integer, ErrorsEnum>> writeAll(final List<Integer> indexes,
+      final Map<Integer, ErrorsEnum> errors,
+      final Function<List<Integer>, Mono<Map<Integer, ErrorsEnum>>> conflicts,
+      final ErrorsEnum duplicateKeyError, final Function<List<Integer>, Mono<Void>> write) {
+    if (indexes.isEmpty()) {
+      return Mono.just(errors);
+    }
+
+    return Mono.defer(() -> {
+      final Map<Integer, ErrorsEnum> allErrors = new HashMap<>(errors);
+
+      return conflicts.apply(indexes)
+          .flatMap(conflictErrors -> {
+            allErrors.putAll(conflictErrors);
+            final var writable = pending(indexes, allErrors);
+
+            if (writable.isEmpty()) {
+              return Mono.<Void>empty();
+            }
+
+            return write.apply(writable)
+                .doOnError(throwable -> accountErrorMapper.mapBulkWriteErrors(throwable,
+                        writable.size(), duplicateKeyError)
+                    .forEach((position, error) -> allErrors.put(writable.get(position), error)));
+          })
+          .as(transactionalOperator::transactional)
+          .thenReturn(allErrors)
+          .onErrorResume(throwable -> {
+            final var remaining = pending(indexes, allErrors);
+
+            if (remaining.size() == indexes.size()) {
+              remaining.forEach(index -> allErrors.put(index, ErrorsEnum.INTERNAL_SERVER_ERROR));
+              return Mono.just(allErrors);
+            }
+
+            return writeAll(remaining, allErrors, conflicts, duplicateKeyError, write);
+          });
+    });
+  }
+
+  /**
+   * Finds the items whose username is already taken by another account, or by an earlier item
+   * of the same batch. An account of the batch that gives its username up does not count, the
+   * bulk write settles those.
+   */
+  private Mono<Map<Integer, ErrorsEnum>> findUsernameConflicts(final List<Integer> indexes,
+      final Function<Integer, String> idOf, final Function<Integer, String> usernameOf,
+      final ErrorsEnum duplicateKeyError) {
+    final Map<Integer, ErrorsEnum> conflicts = new HashMap<>();
+    final Map<String, Integer> claims = new HashMap<>();
+    final Map<String, String> targetUsernames = new HashMap<>();
+
+    indexes.forEach(index -> {
+      if (Objects.nonNull(claims.putIfAbsent(usernameOf.apply(index), index))) {
+        conflicts.put(index, duplicateKeyError);
+      }
+      targetUsernames.putIfAbsent(idOf.apply(index), usernameOf.apply(index));
+    });
+
+    if (claims.isEmpty()) {
+      return Mono.just(conflicts);
+    }
+
+    final var query = new Query().addCriteria(Criteria.where("username").in(claims.keySet()));
+    query.fields().include("id").include("username");
+
+    return mongoTemplate.find(query, AccountDocument.class)
+        .filter(owner -> {
+          final var claimant = claims.get(owner.getUsername());
+
+          return Objects.nonNull(claimant)
+              && !owner.getId().equals(idOf.apply(claimant))
+              && (!targetUsernames.containsKey(owner.getId())
+              || owner.getUsername().equals(targetUsernames.get(owner.getId())));
+        })
+        .doOnNext(owner -> conflicts.put(claims.get(owner.getUsername()), duplicateKeyError))
+        .then(Mono.fromSupplier(() -> conflicts));
+  }
+
+  private Mono<Void> insertSnapshotOutbox(final List<String> accountIds,
+      final AccountChangeType type) {
+    if (accountIds.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return mongoTemplate.insertAll(accountIds.stream()
+            .map(accountId -> toSnapshotOutbox(accountId, type))
+            .toList())
         .then();
   }
 
+  private AccountSnapshotOutboxDocument toSnapshotOutbox(final String accountId,
+      final AccountChangeType type) {
+    final var event = new AccountSnapshotOutboxDocument();
+    event.setAccountId(accountId);
+    event.setType(type);
+    event.setCreatedAt(Instant.now());
+    return event;
+  }
+
+  private Account toRemovedAccount(final AccountDocument accountDocument,
+      final Instant deletedAt) {
+    accountDocument.setUpdatedAt(deletedAt);
+
+    return accountDocumentMapper.toDomain(accountDocument);
+  }
+
+  private Update toUpdate(final Account account, final Instant updatedAt) {
+    return new Update()
+        .set("username", account.username())
+        .set("password", account.password())
+        .set("firstName", account.firstName())
+        .set("lastName", account.lastName())
+        .set("updatedAt", updatedAt);
+  }
+
+  private Mono<Map<Integer, ErrorsEnum>> findMissingAccounts(final List<Account> accounts,
+      final List<Integer> indexes) {
+    final var query = new Query().addCriteria(Criteria.where("id").in(indexes.stream()
+        .map(index -> accounts.get(index).id())
+        .toList()));
+    query.fields().include("id");
+
+    return mongoTemplate.find(query, AccountDocument.class)
+        .map(AccountDocument::getId)
+        .collect(Collectors.toSet())
+        .map(existingIds -> indexes.stream()
+            .filter(index -> !existingIds.contains(accounts.get(index).id()))
+            .collect(Collectors.toMap(Function.identity(),
+                index -> ErrorsEnum.ACCOUNT_NOT_FOUND)));
+  }
+
+  private List<Integer> pending(final List<Integer> indexes,
+      final Map<Integer, ErrorsEnum> errors) {
+    return indexes.stream()
+        .filter(index -> !errors.containsKey(index))
+        .toList();
+  }
+
+  private List<Integer> allIndexes(final int size) {
+    return IntStream.range(0, size).boxed().toList();
+  }
+
+  private Query withProjection(final Query query, final Set<AccountField> fields) {
+    query.fields().include(AccountField.ID.getFieldName());
+    fields.forEach(field -> query.fields().include(field.getFieldName()));
+
+    return query;
+  }
+
 }
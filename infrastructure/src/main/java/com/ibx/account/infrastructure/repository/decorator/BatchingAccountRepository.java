@@ -0,0 +1,103 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Collects concurrent lookups by id for up to a maximum wait or a maximum batch size and resolves
+ * them with a single {@code $in} query. Lookups are batched per requested projection so every
+ * caller still gets the fields it asked for.
+ */
+public class BatchingAccountRepository extends ForwardingAccountRepository {
+
+  private final int maxBatchSize;
+
+  private final Duration maxWait;
+
+  private final DistributionSummary batchSize;
+
+  private final Timer batchWait;
+
+  private final Map<Set<AccountField>, FluxSink<PendingLookup>> batchers =
+      new ConcurrentHashMap<>();
+
+  public BatchingAccountRepository(final AccountRepository delegate,
+      final MeterRegistry meterRegistry, final int maxBatchSize, final Duration maxWait) {
+    super(delegate);
+    this.maxBatchSize = maxBatchSize;
+    this.maxWait = maxWait;
+    this.batchSize = DistributionSummary.builder("account.find-by-id.batch.size")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.batchWait = Timer.builder("account.find-by-id.batch.wait")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    return Mono.defer(() -> {
+      final var pendingLookup = new PendingLookup(id, Sinks.one(), System.nanoTime());
+      batchers.computeIfAbsent(Set.copyOf(fields), this::createBatcher).next(pendingLookup);
+
+      return pendingLookup.result().asMono();
+    });
+  }
+
+  private FluxSink<PendingLookup> createBatcher(final Set<AccountField> fields) {
+    final var sink = new AtomicReference<FluxSink<PendingLookup>>();
+
+    Flux.<PendingLookup>create(sink::set)
+        .bufferTimeout(maxBatchSize, maxWait)
+        .subscribe(batch -> execute(batch, fields));
+
+    return sink.get();
+  }
+
+  private void execute(final List<PendingLookup> batch, final Set<AccountField> fields) {
+    final var now = System.nanoTime();
+    batchSize.record(batch.size());
+    batch.forEach(pendingLookup ->
+        batchWait.record(now - pendingLookup.enqueuedNanos(), TimeUnit.NANOSECONDS));
+
+    final var ids = batch.stream()
+        .map(PendingLookup::id)
+        .distinct()
+        .toList();
+
+    delegate.findAllById(ids, fields)
+        .collectMap(Account::id, Function.identity())
+        .subscribe(accounts -> batch.forEach(pendingLookup -> {
+              final var account = accounts.get(pendingLookup.id());
+
+              if (account == null) {
+                pendingLookup.result().tryEmitEmpty();
+              } else {
+                pendingLookup.result().tryEmitValue(account);
+              }
+            }),
+            throwable -> batch.forEach(
+                pendingLookup -> pendingLookup.result().tryEmitError(throwable)));
+  }
+
+  private record PendingLookup(String id, Sinks.One<Account> result, long enqueuedNanos) {
+
+  }
+
+}
@@ -0,0 +1,140 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-through cache of accounts by id. Local writes update or invalidate the cached entry, and
+ * a lookup only fills the cache when no write to the same id happened while it was in flight, so
+ * a slow read can never put back an entry that a concurrent write already replaced. Each lookup
+ * registers a fill token for its id, writes and invalidations drop the token, and the fill only
+ * lands while its own token is still registered. Entries hold every
+ * readable field and never the password, so any projection can be served from a hit, but only
+ * full lookups fill the cache. Writes handled by other nodes reach the cache through
+ * {@link #invalidateAll(Collection)}.
+ */
+public class CachingAccountRepository extends ForwardingAccountRepository {
+
+  private static final String CACHE_NAME = "account.by-id";
+
+  private final Cache<String, Account> cache;
+
+  private final Map<String, Object> fillTokens = new ConcurrentHashMap<>();
+
+  public CachingAccountRepository(final AccountRepository delegate,
+      final MeterRegistry meterRegistry, final long maximumSize, final Duration timeToLive) {
+    super(delegate);
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    return Mono.defer(() -> {
+      final var cachedAccount = cache.getIfPresent(id);
+
+      if (cachedAccount != null) {
+        return Mono.just(cachedAccount);
+      }
+
+      if (!fields.containsAll(AccountField.ALL)) {
+        return delegate.findById(id, fields);
+      }
+
+      final var fillToken = new Object();
+      fillTokens.put(id, fillToken);
+
+      return delegate.findById(id, fields)
+          .doOnNext(account -> fill(id, fillToken, account))
+          .doFinally(signalType -> fillTokens.remove(id, fillToken));
+    });
+  }
+
+  @Override
+  public Mono<Account> save(final Account account) {
+    return delegate.save(account)
+        .doOnNext(savedAccount -> put(savedAccount.id(), savedAccount));
+  }
+
+  @Override
+  public Mono<Account> update(final String accountId, final Account account) {
+    return delegate.update(accountId, account)
+        .doOnSubscribe(subscription -> invalidate(accountId))
+        .doOnNext(updatedAccount -> put(accountId, updatedAccount))
+        .doOnError(throwable -> invalidate(accountId));
+  }
+
+  @Override
+  public Flux<BulkItemResult> updateAll(final List<Account> accounts) {
+    return delegate.updateAll(accounts)
+        .doOnSubscribe(subscription -> accounts.forEach(account -> invalidate(account.id())))
+        .doFinally(signalType -> accounts.forEach(account -> invalidate(account.id())));
+  }
+
+  @Override
+  public Mono<Account> findAndRemoveById(final String id) {
+    return delegate.findAndRemoveById(id)
+        .doOnSubscribe(subscription -> invalidate(id))
+        .doFinally(signalType -> invalidate(id));
+  }
+
+  @Override
+  public Flux<Account> findAllAndRemoveById(final Collection<String> ids) {
+    return delegate.findAllAndRemoveById(ids)
+        .doOnSubscribe(subscription -> ids.forEach(this::invalidate))
+        .doFinally(signalType -> ids.forEach(this::invalidate));
+  }
+
+  public void invalidateAll(final Collection<String> ids) {
+    ids.forEach(this::invalidate);
+  }
+
+  private Account toReadableAccount(final Account account) {
+    return new Account(account.id(), account.username(), null, account.firstName(),
+        account.lastName());
+  }
+
+  private void fill(final String id, final Object fillToken, final Account account) {
+    fillTokens.computeIfPresent(id, (key, registeredToken) -> {
+      if (registeredToken != fillToken) {
+        return registeredToken;
+      }
+
+      cache.put(key, toReadableAccount(account));
+      return null;
+    });
+  }
+
+  private void put(final String id, final Account account) {
+    fillTokens.compute(id, (key, registeredToken) -> {
+      cache.put(key, toReadableAccount(account));
+      return null;
+    });
+  }
+
+  private void invalidate(final String id) {
+    fillTokens.compute(id, (key, registeredToken) -> {
+      cache.invalidate(key);
+      return null;
+    });
+  }
+
+}
@@ -0,0 +1,67 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lets concurrent identical lookups share one in-flight query. The first caller for an id and
+ * projection runs the lookup, later callers subscribe to the same result, and the entry is
+ * dropped as soon as the lookup terminates so results are never served stale.
+ */
+public class CoalescingAccountRepository extends ForwardingAccountRepository {
+
+  private static final String METRIC_NAME = "account.lookup.coalescing";
+
+  private final Map<LookupKey, Mono<Account>> inFlight = new ConcurrentHashMap<>();
+
+  private final Counter executedCounter;
+
+  private final Counter coalescedCounter;
+
+  public CoalescingAccountRepository(final AccountRepository delegate,
+      final MeterRegistry meterRegistry) {
+    super(delegate);
+    this.executedCounter = Counter.builder(METRIC_NAME)
+        .tag("result", "executed")
+        .register(meterRegistry);
+    this.coalescedCounter = Counter.builder(METRIC_NAME)
+        .tag("result", "coalesced")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    return Mono.defer(() -> {
+      final var created = new AtomicReference<Mono<Account>>();
+      final var shared = inFlight.computeIfAbsent(new LookupKey(id, Set.copyOf(fields)), key -> {
+        final var holder = new AtomicReference<Mono<Account>>();
+        holder.set(delegate.findById(id, fields)
+            .doFinally(signalType -> inFlight.remove(key, holder.get()))
+            .cache());
+        created.set(holder.get());
+        return holder.get();
+      });
+
+      if (created.get() == shared) {
+        executedCounter.increment();
+      } else {
+        coalescedCounter.increment();
+      }
+
+      return shared;
+    });
+  }
+
+  private record LookupKey(String id, Set<AccountField> fields) {
+
+  }
+
+}
@@ -0,0 +1,82 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.repository.AccountRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Base class for repository decorators, forwards every operation to the wrapped repository so
+ * each decorator only overrides the operations it changes.
+ */
+@RequiredArgsConstructor
+public abstract class ForwardingAccountRepository implements AccountRepository {
+
+  protected final AccountRepository delegate;
+
+  @Override
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    return delegate.findById(id, fields);
+  }
+
+  @Override
+  public Flux<Account> findAllById(final Collection<String> ids,
+      final Set<AccountField> fields) {
+    return delegate.findAllById(ids, fields);
+  }
+
+  @Override
+  public Flux<Account> findAll(final String after, final int limit,
+      final Set<AccountField> fields) {
+    return delegate.findAll(after, limit, fields);
+  }
+
+  @Override
+  public Flux<Account> streamAll(final Set<AccountField> fields) {
+    return delegate.streamAll(fields);
+  }
+
+  @Override
+  public Flux<AccountChange> findChangesSince(final Instant since) {
+    return delegate.findChangesSince(since);
+  }
+
+  @Override
+  public Mono<Account> save(final Account account) {
+    return delegate.save(account);
+  }
+
+  @Override
+  public Flux<BulkItemResult> saveAll(final List<Account> accounts) {
+    return delegate.saveAll(accounts);
+  }
+
+  @Override
+  public Mono<Account> update(final String accountId, final Account account) {
+    return delegate.update(accountId, account);
+  }
+
+  @Override
+  public Flux<BulkItemResult> updateAll(final List<Account> accounts) {
+    return delegate.updateAll(accounts);
+  }
+
+  @Override
+  public Mono<Account> findAndRemoveById(final String id) {
+    return delegate.findAndRemoveById(id);
+  }
+
+  @Override
+  public Flux<Account> findAllAndRemoveById(final Collection<String> ids) {
+    return delegate.findAllAndRemoveById(ids);
+  }
+
+}
@@ -0,0 +1,81 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Mono;
+
+/**
+ * Remembers ids that were recently looked up and not found, so repeated lookups of unknown
+ * accounts are answered from memory for a short time. Saving an account forgets its id, and a
+ * miss is only recorded when no account was saved while the lookup was in flight. Deletes go
+ * through the same entries: deleting a known missing id is answered from memory, and once a
+ * delete completes, whether it removed the account or found nothing, the id is recorded as
+ * missing.
+ */
+public class NegativeLookupAccountRepository extends ForwardingAccountRepository {
+
+  private static final String CACHE_NAME = "account.missing-by-id";
+
+  private final Cache<String, Boolean> missingIds;
+
+  private final AtomicLong generation = new AtomicLong();
+
+  public NegativeLookupAccountRepository(final AccountRepository delegate,
+      final MeterRegistry meterRegistry, final long maximumSize, final Duration timeToLive) {
+    super(delegate);
+    this.missingIds = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, missingIds, CACHE_NAME);
+  }
+
+  @Override
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    return Mono.defer(() -> {
+      if (missingIds.getIfPresent(id) != null) {
+        return Mono.empty();
+      }
+
+      final var lookupGeneration = generation.get();
+
+      return delegate.findById(id, fields)
+          .switchIfEmpty(Mono.fromRunnable(() -> {
+            if (generation.get() == lookupGeneration) {
+              missingIds.put(id, Boolean.TRUE);
+            }
+          }));
+    });
+  }
+
+  @Override
+  public Mono<Account> findAndRemoveById(final String id) {
+    return Mono.defer(() -> {
+      if (missingIds.getIfPresent(id) != null) {
+        return Mono.empty();
+      }
+
+      return delegate.findAndRemoveById(id)
+          .doOnSuccess(removedAccount -> missingIds.put(id, Boolean.TRUE));
+    });
+  }
+
+  @Override
+  public Mono<Account> save(final Account account) {
+    return delegate.save(account)
+        .doOnNext(savedAccount -> {
+          generation.incrementAndGet();
+          missingIds.invalidate(savedAccount.id());
+        });
+  }
+
+}
@@ -0,0 +1,162 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.infrastructure.repository.replica.AccountReplica;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves reads from the node-local account replica once it has caught up, and from Mongo while
+ * it is still bootstrapping or lagging behind. Ids the replica does not know yet still go to
+ * Mongo, so an account created on another node is never reported as missing. Local
+ * writes are applied to the replica straight away, with the change time stored in Mongo, so this
+ * node reads its own writes before the matching snapshot comes back from the topic and older
+ * snapshots still on their way do not undo them. Listing pages have no such fallback, so they are
+ * only served from the replica once it is complete and from Mongo until then. Like the cache, the
+ * replica never holds the password and answers any projection with every readable field.
+ */
+public class ReplicaAccountRepository extends ForwardingAccountRepository {
+
+  private static final String READS_METRIC = "account.replica.reads";
+
+  private final AccountReplica replica;
+
+  private final Counter replicaReads;
+
+  private final Counter mongoReads;
+
+  public ReplicaAccountRepository(final AccountRepository delegate, final AccountReplica replica,
+      final MeterRegistry meterRegistry) {
+    super(delegate);
+    this.replica = replica;
+    this.replicaReads = Counter.builder(READS_METRIC)
+        .tag("source", "replica")
+        .register(meterRegistry);
+    this.mongoReads = Counter.builder(READS_METRIC)
+        .tag("source", "mongo")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Account> findById(final String id, final Set<AccountField> fields) {
+    return Mono.defer(() -> {
+      final var account = replica.isReady() ? replica.findById(id) : null;
+
+      if (Objects.isNull(account)) {
+        mongoReads.increment();
+        return delegate.findById(id, fields);
+      }
+
+      replicaReads.increment();
+      return Mono.just(account);
+    });
+  }
+
+  @Override
+  public Flux<Account> findAllById(final Collection<String> ids,
+      final Set<AccountField> fields) {
+    return Flux.defer(() -> {
+      if (!replica.isReady()) {
+        mongoReads.increment();
+        return delegate.findAllById(ids, fields);
+      }
+
+      final var accounts = new ArrayList<Account>();
+      final var missingIds = new ArrayList<String>();
+
+      ids.forEach(id -> {
+        final var account = replica.findById(id);
+
+        if (Objects.isNull(account)) {
+          missingIds.add(id);
+        } else {
+          accounts.add(account);
+        }
+      });
+
+      replicaReads.increment();
+
+      if (missingIds.isEmpty()) {
+        return Flux.fromIterable(accounts);
+      }
+
+      mongoReads.increment();
+      return Flux.fromIterable(accounts)
+          .concatWith(delegate.findAllById(missingIds, fields));
+    });
+  }
+
+  @Override
+  public Flux<Account> findAll(final String after, final int limit,
+      final Set<AccountField> fields) {
+    return Flux.defer(() -> {
+      if (!replica.isComplete()) {
+        mongoReads.increment();
+        return delegate.findAll(after, limit, fields);
+      }
+
+      replicaReads.increment();
+      return Flux.fromIterable(replica.findAll(after, limit));
+    });
+  }
+
+  @Override
+  public Mono<Account> save(final Account account) {
+    return delegate.save(account)
+        .doOnNext(replica::put);
+  }
+
+  @Override
+  public Flux<BulkItemResult> saveAll(final List<Account> accounts) {
+    return delegate.saveAll(accounts)
+        .doOnNext(result -> {
+          if (Objects.isNull(result.error())) {
+            final var account = accounts.get((int) result.index());
+            replica.put(new Account(result.id(), account.username(), null, account.firstName(),
+                account.lastName(), result.changedAt()));
+          }
+        });
+  }
+
+  @Override
+  public Mono<Account> update(final String accountId, final Account account) {
+    return delegate.update(accountId, account)
+        .doOnNext(replica::put);
+  }
+
+  @Override
+  public Flux<BulkItemResult> updateAll(final List<Account> accounts) {
+    return delegate.updateAll(accounts)
+        .doOnNext(result -> {
+          if (Objects.isNull(result.error())) {
+            final var account = accounts.get((int) result.index());
+            replica.put(new Account(account.id(), account.username(), null, account.firstName(),
+                account.lastName(), result.changedAt()));
+          }
+        });
+  }
+
+  @Override
+  public Mono<Account> findAndRemoveById(final String id) {
+    return delegate.findAndRemoveById(id)
+        .doOnNext(removedAccount -> replica.remove(id, removedAccount.updatedAt()));
+  }
+
+  @Override
+  public Flux<Account> findAllAndRemoveById(final Collection<String> ids) {
+    return delegate.findAllAndRemoveById(ids)
+        .doOnNext(removedAccount -> replica.remove(removedAccount.id(),
+            removedAccount.updatedAt()));
+  }
+
+}
@@ -0,0 +1,304 @@
+package com.ibx.account.infrastructure.repository.replica;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.infrastructure.messaging.AccountEventSerializer;
+import com.ibx.account.infrastructure.messaging.AccountSnapshotKafkaProducer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node-local copy of every account, bootstrapped from the start of the compacted account
+ * snapshot topic and kept up to date as snapshots and tombstones stream in. Accounts are kept in id
+ * order for paging. Local writes reach the replica before their snapshot comes back from the topic,
+ * so every change is versioned by the time it was made and a change older than the one held is
+ * dropped, and local deletes are kept as tombstones until the topic catches up with them. The
+ * replica only reports itself ready once it
+ * has read the whole topic and, after that, while it stays within the configured lag, and only
+ * reports itself complete, holding every account, once it has read the backfill marker from the
+ * control topic and every snapshot partition up to the end offset it had when the marker was
+ * read, since the backfilled accounts can still be behind the marker.
+ */
+@Component
+@ConditionalOnProperty(name = "app.account.replica.enabled", havingValue = "true")
+@Slf4j
+public class AccountReplica {
+
+  private static final Properties CONSUMER_OVERRIDES = new Properties();
+
+  static {
+    CONSUMER_OVERRIDES.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
+        StringDeserializer.class);
+    CONSUMER_OVERRIDES.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
+        ByteArrayDeserializer.class);
+    CONSUMER_OVERRIDES.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+  }
+
+  private final ConsumerFactory<String, byte[]> consumerFactory;
+
+  private final AccountEventSerializer accountEventSerializer;
+
+  private final String topic;
+
+  private final String controlTopic;
+
+  private final Duration pollTimeout;
+
+  private final long maxLag;
+
+  private final NavigableMap<String, Account> accountsById = new ConcurrentSkipListMap<>();
+
+  private final Map<String, Instant> deletedAtById = new HashMap<>();
+
+  private volatile boolean running;
+
+  private volatile boolean caughtUp;
+
+  private volatile boolean backfilled;
+
+  private boolean backfillMarkerRead;
+
+  private Map<TopicPartition, Long> backfillEndOffsets;
+
+  private volatile double lag = Double.NaN;
+
+  private volatile Consumer<String, byte[]> consumer;
+
+  public AccountReplica(final ConsumerFactory<String, byte[]> consumerFactory,
+      final AccountEventSerializer accountEventSerializer, final MeterRegistry meterRegistry,
+      @Value("${app.kafka.topic.account-snapshot}") final String topic,
+      @Value("${app.kafka.topic.account-snapshot-control:${app.kafka.topic.account-snapshot}"
+          + "-control}") final String controlTopic,
+      @Value("${app.account.replica.poll-timeout:500ms}") final Duration pollTimeout,
+      @Value("${app.account.replica.max-lag:1000}") final long maxLag) {
+    this.consumerFactory = consumerFactory;
+    this.accountEventSerializer = accountEventSerializer;
+    this.topic = topic;
+    this.controlTopic = controlTopic;
+    this.pollTimeout = pollTimeout;
+    this.maxLag = maxLag;
+    Gauge.builder("account.replica.lag", this, replica -> replica.lag)
+        .baseUnit("records")
+        .register(meterRegistry);
+    Gauge.builder("account.replica.size", accountsById, Map::size)
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    running = true;
+
+    final var pollThread = new Thread(this::run, "account-replica");
+    pollThread.setDaemon(true);
+    pollThread.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+
+    final var currentConsumer = consumer;
+    if (Objects.nonNull(currentConsumer)) {
+      currentConsumer.wakeup();
+    }
+  }
+
+  public boolean isReady() {
+    return caughtUp && lag <= maxLag;
+  }
+
+  public boolean isComplete() {
+    return backfilled && isReady();
+  }
+
+  public Account findById(final String id) {
+    return accountsById.get(id);
+  }
+
+  public List<Account> findAll(final String after, final int limit) {
+    final var accounts = Objects.isNull(after) ? accountsById : accountsById.tailMap(after, false);
+
+    return accounts.values().stream()
+        .limit(limit)
+        .toList();
+  }
+
+  public void put(final Account account) {
+    applyChange(account.id(), account, account.updatedAt(), true);
+  }
+
+  public void remove(final String id, final Instant deletedAt) {
+    applyChange(id, null, deletedAt, true);
+  }
+
+  void seekToBeginning(final Consumer<String, byte[]> snapshotConsumer) {
+    final var partitions = Stream.of(topic, controlTopic)
+        .flatMap(assignedTopic -> snapshotConsumer.partitionsFor(assignedTopic).stream())
+        .map(partitionInfo -> new TopicPartition(partitionInfo.topic(),
+            partitionInfo.partition()))
+        .toList();
+
+    snapshotConsumer.assign(partitions);
+    snapshotConsumer.seekToBeginning(partitions);
+  }
+
+  void poll(final Consumer<String, byte[]> snapshotConsumer) {
+    snapshotConsumer.poll(pollTimeout).forEach(this::apply);
+
+    if (!backfilled && backfillMarkerRead) {
+      checkBackfilled(snapshotConsumer);
+    }
+
+    var currentLag = 0L;
+    for (final var partition : snapshotConsumer.assignment()) {
+      final var partitionLag = snapshotConsumer.currentLag(partition);
+
+      if (partitionLag.isEmpty()) {
+        return;
+      }
+      currentLag += partitionLag.getAsLong();
+    }
+
+    lag = currentLag;
+
+    if (!caughtUp && currentLag == 0) {
+      caughtUp = true;
+      log.info("Account replica caught up with {} accounts", accountsById.size());
+    }
+  }
+
+  private void checkBackfilled(final Consumer<String, byte[]> snapshotConsumer) {
+    if (Objects.isNull(backfillEndOffsets)) {
+      backfillEndOffsets = snapshotConsumer.endOffsets(snapshotConsumer.assignment().stream()
+          .filter(partition -> topic.equals(partition.topic()))
+          .toList());
+    }
+
+    final var reachedEndOffsets = backfillEndOffsets.entrySet().stream()
+        .allMatch(endOffset -> snapshotConsumer.position(endOffset.getKey())
+            >= endOffset.getValue());
+
+    if (reachedEndOffsets) {
+      backfilled = true;
+      log.info("Account replica complete with {} accounts", accountsById.size());
+    }
+  }
+
+  private void apply(final ConsumerRecord<String, byte[]> snapshot) {
+    if (controlTopic.equals(snapshot.topic())) {
+      if (AccountSnapshotKafkaProducer.BACKFILL_COMPLETED_KEY.equals(snapshot.key())) {
+        backfillMarkerRead = true;
+      }
+      return;
+    }
+
+    if (Objects.isNull(snapshot.key())) {
+      return;
+    }
+
+    final var changedAt = changedAt(snapshot);
+
+    if (Objects.isNull(snapshot.value())) {
+      applyChange(snapshot.key(), null, changedAt, false);
+      return;
+    }
+
+    try {
+      final var account = accountEventSerializer.deserialize(snapshot.value());
+      applyChange(snapshot.key(), new Account(snapshot.key(), account.username(), null,
+          account.firstName(), account.lastName()), changedAt, false);
+    } catch (final IOException exception) {
+      log.warn("Skipping unreadable snapshot for account: {}", snapshot.key(), exception);
+    }
+  }
+
+  private synchronized void applyChange(final String id, final Account account,
+      final Instant changedAt, final boolean local) {
+    final var version = Objects.requireNonNullElse(changedAt, Instant.MIN);
+    final var current = accountsById.get(id);
+    final var heldVersion = Objects.nonNull(current)
+        ? Objects.requireNonNullElse(current.updatedAt(), Instant.MIN)
+        : deletedAtById.get(id);
+
+    if (Objects.nonNull(heldVersion) && version.isBefore(heldVersion)) {
+      return;
+    }
+
+    if (Objects.nonNull(account)) {
+      deletedAtById.remove(id);
+      accountsById.put(id, new Account(id, account.username(), null, account.firstName(),
+          account.lastName(), changedAt));
+    } else if (local) {
+      accountsById.remove(id);
+      deletedAtById.put(id, version);
+    } else {
+      // snapshots of an account are read in the order they were published, so once the topic
+      // deletes it no older snapshot can follow and the local tombstone is no longer needed
+      accountsById.remove(id);
+      deletedAtById.remove(id);
+    }
+  }
+
+  private Instant changedAt(final ConsumerRecord<String, byte[]> snapshot) {
+    final var header = snapshot.headers()
+        .lastHeader(AccountSnapshotKafkaProducer.CHANGED_AT_HEADER);
+
+    if (Objects.isNull(header)) {
+      return null;
+    }
+
+    try {
+      return Instant.parse(new String(header.value(), StandardCharsets.UTF_8));
+    } catch (final DateTimeParseException exception) {
+      log.warn("Ignoring unreadable change time for account: {}", snapshot.key(), exception);
+      return null;
+    }
+  }
+
+  private void run() {
+    try (var snapshotConsumer = consumerFactory.createConsumer(null, null, null,
+        CONSUMER_OVERRIDES)) {
+      consumer = snapshotConsumer;
+      seekToBeginning(snapshotConsumer);
+
+      while (running) {
+        poll(snapshotConsumer);
+      }
+    } catch (final WakeupException exception) {
+      log.info("Account replica stopped");
+    } catch (final RuntimeException exception) {
+      log.error("Account replica stopped, reads fall back to Mongo", exception);
+    } finally {
+      caughtUp = false;
+      lag = Double.NaN;
+    }
+  }
+
+}
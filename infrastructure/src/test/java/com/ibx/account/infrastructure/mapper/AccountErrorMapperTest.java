@@ -1,15 +1,26 @@
 package com.ibx.account.infrastructure.mapper;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountAlreadyExistsException;
 import com.ibx.account.domain.model.exception.AccountRepositoryException;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonDocument;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 @ExtendWith(MockitoExtension.class)
 class AccountErrorMapperTest {
@@ -25,4 +36,50 @@ class AccountErrorMapperTest {
     assertNotNull(result);
     assertTrue(result instanceof AccountRepositoryException);
   }
+
+  @Test
+  @DisplayName("Map Mongo error when duplicate key then return already exists exception")
+  void mapMongoError_whenDuplicateKey_thenReturnAlreadyExistsException() {
+    var result = accountErrorMapper.mapMongoError(new DuplicateKeyException(""),
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, "username");
+
+    assertTrue(result instanceof AccountAlreadyExistsException);
+    assertEquals(ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS,
+        ((AccountAlreadyExistsException) result).getErrorsEnum());
+  }
+
+  @Test
+  @DisplayName("Map Mongo error when other error then return repository exception")
+  void mapMongoError_whenOtherError_thenReturnRepositoryException() {
+    var result = accountErrorMapper.mapMongoError(new MongoException(""),
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, "username");
+
+    assertTrue(result instanceof AccountRepositoryException);
+  }
+
+  @Test
+  @DisplayName("Map bulk write errors when bulk write error then map every failed index")
+  void mapBulkWriteErrors_whenBulkWriteError_thenMapEveryFailedIndex() {
+    var bulkWriteException = new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+        List.of(new BulkWriteError(11000, "", new BsonDocument(), 1),
+            new BulkWriteError(2, "", new BsonDocument(), 2)),
+        null, new ServerAddress());
+
+    var result = accountErrorMapper.mapBulkWriteErrors(
+        new DuplicateKeyException("", bulkWriteException), 3,
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS);
+
+    assertEquals(Map.of(1, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS,
+        2, ErrorsEnum.INTERNAL_SERVER_ERROR), result);
+  }
+
+  @Test
+  @DisplayName("Map bulk write errors when other error then fail every index")
+  void mapBulkWriteErrors_whenOtherError_thenFailEveryIndex() {
+    var result = accountErrorMapper.mapBulkWriteErrors(new MongoException(""), 2,
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS);
+
+    assertEquals(Map.of(0, ErrorsEnum.INTERNAL_SERVER_ERROR,
+        1, ErrorsEnum.INTERNAL_SERVER_ERROR), result);
+  }
 }
@@ -0,0 +1,137 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotBackfillDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotOutboxDocument;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotBackfillTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  @Mock
+  private ReactiveMongoTemplate mongoTemplate;
+
+  @Mock
+  private OutboxLease outboxLease;
+
+  private AccountSnapshotBackfill accountSnapshotBackfill;
+
+  @BeforeEach
+  void beforeEach() {
+    accountSnapshotBackfill = new AccountSnapshotBackfill(mongoTemplate, outboxLease, BATCH_SIZE,
+        Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("Backfill when already completed then skip")
+  void backfill_whenAlreadyCompleted_thenSkip() {
+    var progress = new AccountSnapshotBackfillDocument();
+    progress.setCompletedAt(Instant.now());
+
+    when(mongoTemplate.findById(AccountSnapshotBackfill.LEASE_NAME,
+        AccountSnapshotBackfillDocument.class)).thenReturn(Mono.just(progress));
+
+    StepVerifier.create(accountSnapshotBackfill.backfill())
+        .expectNext(true)
+        .verifyComplete();
+
+    verifyNoInteractions(outboxLease);
+  }
+
+  @Test
+  @DisplayName("Backfill when lease held by another node then wait")
+  void backfill_whenLeaseHeldByAnotherNode_thenWait() {
+    when(mongoTemplate.findById(AccountSnapshotBackfill.LEASE_NAME,
+        AccountSnapshotBackfillDocument.class)).thenReturn(Mono.empty());
+    when(outboxLease.acquire(AccountSnapshotBackfill.LEASE_NAME)).thenReturn(Mono.just(false));
+
+    StepVerifier.create(accountSnapshotBackfill.backfill())
+        .expectNext(false)
+        .verifyComplete();
+
+    verify(mongoTemplate, only()).findById(AccountSnapshotBackfill.LEASE_NAME,
+        AccountSnapshotBackfillDocument.class);
+  }
+
+  @Test
+  @DisplayName("Backfill when resumed then queue remaining accounts and marker")
+  void backfill_whenResumed_thenQueueRemainingAccountsAndMarker() {
+    var progress = new AccountSnapshotBackfillDocument();
+    progress.setLastAccountId("a");
+
+    when(mongoTemplate.findById(AccountSnapshotBackfill.LEASE_NAME,
+        AccountSnapshotBackfillDocument.class)).thenReturn(Mono.just(progress));
+    when(outboxLease.acquire(AccountSnapshotBackfill.LEASE_NAME)).thenReturn(Mono.just(true));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(buildAccountDocument("b"), buildAccountDocument("c")))
+        .thenReturn(Flux.just(buildAccountDocument("d")));
+    when(mongoTemplate.insertAll(anyList()))
+        .thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+    when(mongoTemplate.upsert(any(Query.class), any(Update.class),
+        eq(AccountSnapshotBackfillDocument.class)))
+        .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+    when(mongoTemplate.insert(any(AccountSnapshotOutboxDocument.class)))
+        .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+    StepVerifier.create(accountSnapshotBackfill.backfill())
+        .expectNext(true)
+        .verifyComplete();
+
+    verify(mongoTemplate).find(argThat(query -> query != null
+        && new Document("$gt", "a").equals(query.getQueryObject().get("id"))),
+        eq(AccountDocument.class));
+    verify(mongoTemplate).find(argThat(query -> query != null
+        && new Document("$gt", "c").equals(query.getQueryObject().get("id"))),
+        eq(AccountDocument.class));
+    verify(mongoTemplate).insertAll(argThat((List<AccountSnapshotOutboxDocument> events) ->
+        List.of("b", "c").equals(events.stream()
+            .map(AccountSnapshotOutboxDocument::getAccountId)
+            .toList())
+            && events.stream().allMatch(event -> event.getType() == AccountChangeType.UPDATED)));
+    verify(mongoTemplate).insertAll(argThat((List<AccountSnapshotOutboxDocument> events) ->
+        List.of("d").equals(events.stream()
+            .map(AccountSnapshotOutboxDocument::getAccountId)
+            .toList())));
+    verify(mongoTemplate).insert(
+        argThat(AccountSnapshotOutboxDocument::isBackfillCompleted));
+    verify(mongoTemplate, times(3)).upsert(any(Query.class), any(Update.class),
+        eq(AccountSnapshotBackfillDocument.class));
+    verify(outboxLease, times(2)).acquire(AccountSnapshotBackfill.LEASE_NAME);
+  }
+
+  private AccountDocument buildAccountDocument(final String id) {
+    var accountDocument = new AccountDocument();
+    accountDocument.setId(id);
+    return accountDocument;
+  }
+
+}
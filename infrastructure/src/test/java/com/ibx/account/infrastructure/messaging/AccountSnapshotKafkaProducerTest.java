@@ -0,0 +1,220 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.exception.AccountMessagingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotKafkaProducerTest {
+
+  private static final String ACCOUNT_SNAPSHOT_TOPIC = "account.snapshot.topic";
+
+  private static final String ACCOUNT_SNAPSHOT_CONTROL_TOPIC = "account.snapshot.control.topic";
+
+  private static final String CONTENT_TYPE = "application/test";
+
+  @Mock
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  @Mock
+  private AccountEventSerializer accountEventSerializer;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private AccountSnapshotKafkaProducer accountSnapshotKafkaProducer;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    accountSnapshotKafkaProducer = new AccountSnapshotKafkaProducer(kafkaTemplate,
+        accountEventSerializer, meterRegistry);
+    ReflectionTestUtils.setField(accountSnapshotKafkaProducer, "accountSnapshotTopic",
+        ACCOUNT_SNAPSHOT_TOPIC);
+    ReflectionTestUtils.setField(accountSnapshotKafkaProducer, "accountSnapshotControlTopic",
+        ACCOUNT_SNAPSHOT_CONTROL_TOPIC);
+  }
+
+  @Test
+  @DisplayName("Send when broker ack should publish snapshots and tombstones in order")
+  void send_whenBrokerAck_shouldPublishSnapshotsAndTombstonesInOrder() throws IOException {
+    var account = buildAccount();
+    var deletedId = UUID.randomUUID().toString();
+    byte[] snapshot = {1, 2};
+
+    when(accountEventSerializer.serialize(account)).thenReturn(snapshot);
+    when(accountEventSerializer.contentType()).thenReturn(CONTENT_TYPE);
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(account.id(), snapshot,
+        "AccountCreated")))).thenReturn(CompletableFuture.completedFuture(null));
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(deletedId, null,
+        "AccountDeleted")))).thenReturn(CompletableFuture.completedFuture(null));
+
+    StepVerifier.create(accountSnapshotKafkaProducer.send(List.of(
+            AccountChange.created(account, Instant.now()),
+            AccountChange.deleted(deletedId, Instant.now()))))
+        .verifyComplete();
+
+    var inOrder = inOrder(kafkaTemplate);
+    inOrder.verify(kafkaTemplate).send(argThat(getRecordArgumentMatcher(account.id(), snapshot,
+        "AccountCreated")));
+    inOrder.verify(kafkaTemplate).send(argThat(getRecordArgumentMatcher(deletedId, null,
+        "AccountDeleted")));
+    assertEquals(2, sendTimerCount("success"));
+  }
+
+  @Test
+  @DisplayName("Send when broker error should return expected error")
+  void send_whenBrokerError_shouldReturnExpectedError() throws IOException {
+    var account = buildAccount();
+    byte[] snapshot = {1};
+
+    when(accountEventSerializer.serialize(account)).thenReturn(snapshot);
+    when(accountEventSerializer.contentType()).thenReturn(CONTENT_TYPE);
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(account.id(), snapshot,
+        "AccountUpdated")))).thenReturn(CompletableFuture.failedFuture(new KafkaException("")));
+
+    StepVerifier.create(accountSnapshotKafkaProducer.send(List.of(
+            AccountChange.updated(account, Instant.now()))))
+        .expectErrorMatches(throwable -> throwable instanceof AccountMessagingException
+            && throwable.getCause() instanceof KafkaException)
+        .verify();
+
+    assertEquals(1, sendTimerCount("failure"));
+  }
+
+  @Test
+  @DisplayName("Send when serializer error should return expected error without publishing")
+  void send_whenSerializerError_shouldReturnExpectedErrorWithoutPublishing()
+      throws IOException {
+    var account = buildAccount();
+
+    when(accountEventSerializer.serialize(account)).thenThrow(IOException.class);
+
+    StepVerifier.create(accountSnapshotKafkaProducer.send(List.of(
+            AccountChange.updated(account, Instant.now()))))
+        .expectErrorMatches(throwable -> throwable instanceof AccountMessagingException
+            && throwable.getCause() instanceof IOException)
+        .verify();
+
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  @Test
+  @DisplayName("Send when deleted should publish tombstone without serializing")
+  void send_whenDeleted_shouldPublishTombstoneWithoutSerializing() {
+    var accountId = UUID.randomUUID().toString();
+
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(accountId, null,
+        "AccountDeleted")))).thenReturn(CompletableFuture.completedFuture(null));
+
+    StepVerifier.create(accountSnapshotKafkaProducer.send(List.of(
+            AccountChange.deleted(accountId, Instant.now()))))
+        .verifyComplete();
+
+    verify(kafkaTemplate, only()).send(argThat(getRecordArgumentMatcher(accountId, null,
+        "AccountDeleted")));
+    verifyNoInteractions(accountEventSerializer);
+  }
+
+  @Test
+  @DisplayName("Send when change time known should publish it in a header")
+  void send_whenChangeTimeKnown_shouldPublishItInAHeader() {
+    var accountId = UUID.randomUUID().toString();
+    var deletedAt = Instant.now();
+
+    when(kafkaTemplate.send(argThat(getChangedAtArgumentMatcher(deletedAt))))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    StepVerifier.create(accountSnapshotKafkaProducer.send(List.of(
+            AccountChange.deleted(accountId, deletedAt))))
+        .verifyComplete();
+
+    verify(kafkaTemplate, only()).send(argThat(getChangedAtArgumentMatcher(deletedAt)));
+  }
+
+  @Test
+  @DisplayName("Send backfill completed should publish marker to the control topic")
+  void sendBackfillCompleted_whenBrokerAck_shouldPublishMarkerToTheControlTopic() {
+    var completedAt = Instant.now();
+
+    when(kafkaTemplate.send(argThat(getMarkerArgumentMatcher(completedAt))))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    StepVerifier.create(accountSnapshotKafkaProducer.sendBackfillCompleted(completedAt))
+        .verifyComplete();
+
+    verify(kafkaTemplate, only()).send(argThat(getMarkerArgumentMatcher(completedAt)));
+    verifyNoInteractions(accountEventSerializer);
+    assertEquals(1, sendTimerCount("success"));
+  }
+
+  private ArgumentMatcher<ProducerRecord<String, byte[]>> getRecordArgumentMatcher(
+      final String key, final byte[] value, final String eventType) {
+    return producerRecord -> producerRecord != null
+        && ACCOUNT_SNAPSHOT_TOPIC.equals(producerRecord.topic())
+        && key.equals(producerRecord.key())
+        && value == producerRecord.value()
+        && eventType.equals(new String(producerRecord.headers().lastHeader("event-type")
+        .value(), StandardCharsets.UTF_8))
+        && (value == null) == (producerRecord.headers().lastHeader("content-type") == null);
+  }
+
+  private ArgumentMatcher<ProducerRecord<String, byte[]>> getChangedAtArgumentMatcher(
+      final Instant changedAt) {
+    return producerRecord -> producerRecord != null
+        && changedAt.toString().equals(new String(producerRecord.headers()
+        .lastHeader(AccountSnapshotKafkaProducer.CHANGED_AT_HEADER).value(),
+        StandardCharsets.UTF_8));
+  }
+
+  private ArgumentMatcher<ProducerRecord<String, byte[]>> getMarkerArgumentMatcher(
+      final Instant completedAt) {
+    return producerRecord -> producerRecord != null
+        && ACCOUNT_SNAPSHOT_CONTROL_TOPIC.equals(producerRecord.topic())
+        && AccountSnapshotKafkaProducer.BACKFILL_COMPLETED_KEY.equals(producerRecord.key())
+        && completedAt.toString().equals(new String(producerRecord.value(),
+        StandardCharsets.UTF_8))
+        && "AccountSnapshotBackfillCompleted".equals(new String(producerRecord.headers()
+        .lastHeader("event-type").value(), StandardCharsets.UTF_8));
+  }
+
+  private Account buildAccount() {
+    return new Account(UUID.randomUUID().toString(), "username", "password", "firstName",
+        "lastName");
+  }
+
+  private long sendTimerCount(final String result) {
+    return meterRegistry.get("account.kafka.send")
+        .tag("topic", ACCOUNT_SNAPSHOT_TOPIC)
+        .tag("result", result)
+        .timer()
+        .count();
+  }
+
+}
@@ -0,0 +1,180 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.messaging.AccountSnapshotProducer;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountMessagingException;
+import com.ibx.account.infrastructure.mapper.AccountDocumentMapper;
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotOutboxDocument;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSnapshotOutboxRelayTest {
+
+  private static final int BATCH_SIZE = 10;
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Mock
+  private ReactiveMongoTemplate mongoTemplate;
+
+  @Mock
+  private AccountSnapshotProducer accountSnapshotProducer;
+
+  @Mock
+  private AccountDocumentMapper accountDocumentMapper;
+
+  @Mock
+  private OutboxLease outboxLease;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private AccountSnapshotOutboxRelay accountSnapshotOutboxRelay;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    accountSnapshotOutboxRelay = new AccountSnapshotOutboxRelay(mongoTemplate,
+        accountSnapshotProducer, accountDocumentMapper, outboxLease, meterRegistry, BATCH_SIZE,
+        Duration.ofSeconds(1), Duration.ofMillis(1), Duration.ofMillis(5), MAX_ATTEMPTS);
+  }
+
+  @Test
+  @DisplayName("Drain when events pending should publish accounts as stored")
+  void drain_whenEventsPending_shouldPublishAccountsAsStored() {
+    var created = buildOutboxDocument(AccountChangeType.CREATED);
+    var updatedThenDeleted = buildOutboxDocument(AccountChangeType.UPDATED);
+    var deleted = buildOutboxDocument(AccountChangeType.DELETED);
+    var accountDocument = new AccountDocument();
+    accountDocument.setId(created.getAccountId());
+    var account = new Account(created.getAccountId(), "username", null, "firstName",
+        "lastName", Instant.now());
+
+    mockLease();
+    when(mongoTemplate.find(any(Query.class), eq(AccountSnapshotOutboxDocument.class)))
+        .thenReturn(Flux.just(created, updatedThenDeleted, deleted));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument));
+    when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
+    when(accountSnapshotProducer.send(List.of(
+        AccountChange.created(account, account.updatedAt()),
+        AccountChange.deleted(deleted.getAccountId(), deleted.getCreatedAt()))))
+        .thenReturn(Mono.empty());
+    when(mongoTemplate.remove(any(Query.class), eq(AccountSnapshotOutboxDocument.class)))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(3)));
+
+    StepVerifier.create(accountSnapshotOutboxRelay.drain())
+        .expectNext(3L)
+        .verifyComplete();
+
+    verify(mongoTemplate).find(argThat(query -> query.getQueryObject().containsKey("id")
+            && query.getFieldsObject().containsKey("password")),
+        eq(AccountDocument.class));
+    assertEquals(3, counter("account.outbox.relayed"));
+  }
+
+  @Test
+  @DisplayName("Drain when tombstone fails should retry batch before removing it")
+  void drain_whenTombstoneFails_shouldRetryBatchBeforeRemovingIt() {
+    var deleted = buildOutboxDocument(AccountChangeType.DELETED);
+    var attempts = new AtomicInteger();
+
+    mockLease();
+    when(mongoTemplate.find(any(Query.class), eq(AccountSnapshotOutboxDocument.class)))
+        .thenReturn(Flux.just(deleted));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.empty());
+    when(accountSnapshotProducer.send(List.of(
+        AccountChange.deleted(deleted.getAccountId(), deleted.getCreatedAt()))))
+        .thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+            ? Mono.error(new AccountMessagingException(
+                ErrorsEnum.ACCOUNT_SNAPSHOT_NOT_PUBLISHED))
+            : Mono.empty()));
+    when(mongoTemplate.remove(any(Query.class), eq(AccountSnapshotOutboxDocument.class)))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+
+    StepVerifier.create(accountSnapshotOutboxRelay.drain())
+        .expectNext(1L)
+        .verifyComplete();
+
+    assertEquals(2, attempts.get());
+    verify(mongoTemplate).remove(any(Query.class), eq(AccountSnapshotOutboxDocument.class));
+    assertEquals(1, counter("account.outbox.relay.failures"));
+  }
+
+  @Test
+  @DisplayName("Drain when backfill marker pending should send it after the snapshots")
+  void drain_whenBackfillMarkerPending_shouldSendItAfterTheSnapshots() {
+    var deleted = buildOutboxDocument(AccountChangeType.DELETED);
+    var marker = new AccountSnapshotOutboxDocument();
+    marker.setId(UUID.randomUUID().toString());
+    marker.setBackfillCompleted(true);
+    marker.setCreatedAt(Instant.now());
+    var changes = List.of(AccountChange.deleted(deleted.getAccountId(), deleted.getCreatedAt()));
+
+    mockLease();
+    when(mongoTemplate.find(any(Query.class), eq(AccountSnapshotOutboxDocument.class)))
+        .thenReturn(Flux.just(deleted, marker));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.empty());
+    when(accountSnapshotProducer.send(changes)).thenReturn(Mono.empty());
+    when(accountSnapshotProducer.sendBackfillCompleted(marker.getCreatedAt()))
+        .thenReturn(Mono.empty());
+    when(mongoTemplate.remove(any(Query.class), eq(AccountSnapshotOutboxDocument.class)))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(2)));
+
+    StepVerifier.create(accountSnapshotOutboxRelay.drain())
+        .expectNext(2L)
+        .verifyComplete();
+
+    var inOrder = inOrder(accountSnapshotProducer);
+    inOrder.verify(accountSnapshotProducer).send(changes);
+    inOrder.verify(accountSnapshotProducer).sendBackfillCompleted(marker.getCreatedAt());
+  }
+
+  private void mockLease() {
+    when(outboxLease.acquire(AccountSnapshotOutboxRelay.LEASE_NAME)).thenReturn(Mono.just(true));
+  }
+
+  private AccountSnapshotOutboxDocument buildOutboxDocument(final AccountChangeType type) {
+    var document = new AccountSnapshotOutboxDocument();
+    document.setId(UUID.randomUUID().toString());
+    document.setAccountId(UUID.randomUUID().toString());
+    document.setType(type);
+    document.setCreatedAt(Instant.now());
+    return document;
+  }
+
+  private double counter(final String name) {
+    return meterRegistry.counter(name, "outbox", AccountSnapshotOutboxRelay.LEASE_NAME).count();
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class BatchingAccountInvalidationPublisherTest {
+
+  private static final int MAX_BATCH_SIZE = 3;
+
+  private final List<Set<String>> deliveredBatches = new CopyOnWriteArrayList<>();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private BatchingAccountInvalidationPublisher batchingAccountInvalidationPublisher;
+
+  @BeforeEach
+  void beforeEach() {
+    final var loopbackBus = new LoopbackAccountInvalidationBus();
+    loopbackBus.connect().subscribe(deliveredBatches::add);
+    meterRegistry = new SimpleMeterRegistry();
+    batchingAccountInvalidationPublisher = new BatchingAccountInvalidationPublisher(loopbackBus,
+        meterRegistry, MAX_BATCH_SIZE, Duration.ofSeconds(10));
+  }
+
+  @Test
+  @DisplayName("Publish when batch full should deliver distinct ids through the bus")
+  void publish_whenBatchFull_shouldDeliverDistinctIdsThroughTheBus() {
+    StepVerifier.create(batchingAccountInvalidationPublisher.publish(List.of("a", "b", "a")))
+        .verifyComplete();
+
+    assertEquals(List.of(Set.of("a", "b")), deliveredBatches);
+    assertEquals(1, meterRegistry.get("account.invalidation.duplicates").counter().count());
+  }
+
+  @Test
+  @DisplayName("Publish when batch not full should wait for more ids")
+  void publish_whenBatchNotFull_shouldWaitForMoreIds() {
+    StepVerifier.create(batchingAccountInvalidationPublisher.publish(List.of("a", "b")))
+        .verifyComplete();
+
+    assertEquals(List.of(), deliveredBatches);
+
+    StepVerifier.create(batchingAccountInvalidationPublisher.publish(List.of("c")))
+        .verifyComplete();
+
+    assertEquals(List.of(Set.of("a", "b", "c")), deliveredBatches);
+  }
+
+}
@@ -0,0 +1,114 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ibx.account.domain.model.Account;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinaryAccountEventSerializerTest {
+
+  private final BinaryAccountEventSerializer binaryAccountEventSerializer =
+      new BinaryAccountEventSerializer();
+
+  @Test
+  @DisplayName("Serialize when account should write version and tagged fields only")
+  void serialize_whenAccount_shouldWriteVersionAndTaggedFieldsOnly() {
+    var account = new Account("id", "username", "password", "firstName", "lastName");
+
+    var expected = new ByteArrayOutputStream();
+    expected.write(BinaryAccountEventSerializer.FORMAT_VERSION);
+    writeField(expected, BinaryAccountEventSerializer.ID_TAG, "id");
+    writeField(expected, BinaryAccountEventSerializer.USERNAME_TAG, "username");
+    writeField(expected, BinaryAccountEventSerializer.FIRST_NAME_TAG, "firstName");
+    writeField(expected, BinaryAccountEventSerializer.LAST_NAME_TAG, "lastName");
+
+    assertArrayEquals(expected.toByteArray(), binaryAccountEventSerializer.serialize(account));
+  }
+
+  @Test
+  @DisplayName("Serialize when null fields should skip them")
+  void serialize_whenNullFields_shouldSkipThem() {
+    var account = new Account("id", null, null, null, null);
+
+    var expected = new ByteArrayOutputStream();
+    expected.write(BinaryAccountEventSerializer.FORMAT_VERSION);
+    writeField(expected, BinaryAccountEventSerializer.ID_TAG, "id");
+
+    assertArrayEquals(expected.toByteArray(), binaryAccountEventSerializer.serialize(account));
+  }
+
+  @Test
+  @DisplayName("Serialize when non ascii username should write UTF-8 bytes")
+  void serialize_whenNonAsciiUsername_shouldWriteUtf8Bytes() {
+    var username = "us\u00e9r\u20ac\uD83D\uDE00";
+    var account = new Account(null, username, null, null, null);
+
+    var result = binaryAccountEventSerializer.serialize(account);
+
+    var expected = username.getBytes(StandardCharsets.UTF_8);
+    assertEquals(BinaryAccountEventSerializer.USERNAME_TAG, result[1]);
+    assertEquals(expected.length, result[2]);
+    assertArrayEquals(expected, Arrays.copyOfRange(result, 3, result.length));
+  }
+
+  @Test
+  @DisplayName("Serialize when long value should write multi byte length")
+  void serialize_whenLongValue_shouldWriteMultiByteLength() {
+    var username = "u".repeat(300);
+    var account = new Account(null, username, null, null, null);
+
+    var result = binaryAccountEventSerializer.serialize(account);
+
+    assertEquals(1 + 1 + 2 + 300, result.length);
+    assertEquals((byte) (300 & 0x7F | 0x80), result[2]);
+    assertEquals((byte) (300 >>> 7), result[3]);
+  }
+
+  @Test
+  @DisplayName("Deserialize when serialized account should read fields without password")
+  void deserialize_whenSerializedAccount_shouldReadFieldsWithoutPassword() throws IOException {
+    var account = new Account("id", "us\u00e9r".repeat(50), "password", null, "lastName");
+
+    var result = binaryAccountEventSerializer.deserialize(
+        binaryAccountEventSerializer.serialize(account));
+
+    assertEquals(new Account("id", account.username(), null, null, "lastName"), result);
+  }
+
+  @Test
+  @DisplayName("Deserialize when unknown tag should skip it")
+  void deserialize_whenUnknownTag_shouldSkipIt() throws IOException {
+    var event = new ByteArrayOutputStream();
+    event.write(BinaryAccountEventSerializer.FORMAT_VERSION);
+    writeField(event, (byte) 42, "unknown");
+    writeField(event, BinaryAccountEventSerializer.ID_TAG, "id");
+
+    assertEquals(new Account("id", null, null, null, null),
+        binaryAccountEventSerializer.deserialize(event.toByteArray()));
+  }
+
+  @Test
+  @DisplayName("Deserialize when unsupported version or truncated should throw")
+  void deserialize_whenUnsupportedVersionOrTruncated_shouldThrow() {
+    assertThrows(IOException.class,
+        () -> binaryAccountEventSerializer.deserialize(new byte[]{2}));
+    assertThrows(IOException.class,
+        () -> binaryAccountEventSerializer.deserialize(new byte[]{1, 1, 5, 'i'}));
+  }
+
+  private void writeField(final ByteArrayOutputStream output, final byte tag,
+      final String value) {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.write(tag);
+    output.write(bytes.length);
+    output.writeBytes(bytes);
+  }
+
+}
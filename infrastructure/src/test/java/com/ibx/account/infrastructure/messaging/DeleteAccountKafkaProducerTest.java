@@ -1,74 +1,175 @@
 package com.ibx.account.infrastructure.messaging;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.exception.AccountMessagingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class DeleteAccountKafkaProducerTest {
 
   private static final String DELETE_ACCOUNT_TOPIC = "delete.account.topic";
 
+  private static final String CONTENT_TYPE = "application/test";
+
   @Mock
-  private KafkaTemplate<String, String> kafkaTemplate;
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
 
   @Mock
-  private ObjectMapper objectMapper;
+  private AccountEventSerializer accountEventSerializer;
+
+  private SimpleMeterRegistry meterRegistry;
 
-  @InjectMocks
   private DeleteAccountKafkaProducer deleteAccountKafkaProducer;
 
   @BeforeEach
   void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    deleteAccountKafkaProducer = new DeleteAccountKafkaProducer(kafkaTemplate,
+        accountEventSerializer, meterRegistry);
     ReflectionTestUtils.setField(deleteAccountKafkaProducer, "deleteAccountTopic",
         DELETE_ACCOUNT_TOPIC);
   }
 
   @Test
-  @DisplayName("Send message when object mapper error should do nothing")
-  void sendMessage_whenObjectMapperError_shouldDoNothing() throws JsonProcessingException {
-    String key = "key";
+  @DisplayName("Send messages when serializer error should return expected error")
+  void sendMessages_whenSerializerError_shouldReturnExpectedError() throws IOException {
     Account account = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
 
-    when(objectMapper.writeValueAsString(account)).thenThrow(JsonProcessingException.class);
+    when(accountEventSerializer.serialize(account)).thenThrow(IOException.class);
 
-    deleteAccountKafkaProducer.sendMessage(key, account);
+    StepVerifier.create(deleteAccountKafkaProducer.sendMessages(List.of(account)))
+        .expectErrorMatches(throwable -> throwable instanceof AccountMessagingException
+            && throwable.getCause() instanceof IOException)
+        .verify();
 
-    verify(objectMapper, only()).writeValueAsString(account);
+    verify(accountEventSerializer, only()).serialize(account);
     verifyNoInteractions(kafkaTemplate);
   }
 
   @Test
-  @DisplayName("Send message when send message should send message")
-  void sendMessage_whenSendMessage_shouldSendMessage() throws JsonProcessingException {
-    String key = "key";
+  @DisplayName("Send messages when broker error should return expected error")
+  void sendMessages_whenBrokerError_shouldReturnExpectedError() throws IOException {
     Account account = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
-    String accountJson = new ObjectMapper().writeValueAsString(account);
+    byte[] message = {1};
+
+    when(accountEventSerializer.serialize(account)).thenReturn(message);
+    when(accountEventSerializer.contentType()).thenReturn(CONTENT_TYPE);
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(account.id(), message))))
+        .thenReturn(CompletableFuture.failedFuture(new KafkaException("")));
+
+    StepVerifier.create(deleteAccountKafkaProducer.sendMessages(List.of(account)))
+        .expectError(AccountMessagingException.class)
+        .verify();
+
+    assertEquals(1, sendTimerCount("failure"));
+  }
+
+  @Test
+  @DisplayName("Send messages when send messages should send one message per account")
+  void sendMessages_whenSendMessages_shouldSendOneMessagePerAccount() throws IOException {
+    Account firstAccount = new Account(UUID.randomUUID().toString(), "username1", "password",
+        "firstName", "lastName");
+    Account secondAccount = new Account(UUID.randomUUID().toString(), "username2", "password",
+        "firstName", "lastName");
+    byte[] firstMessage = {1};
+    byte[] secondMessage = {2};
+
+    when(accountEventSerializer.serialize(firstAccount)).thenReturn(firstMessage);
+    when(accountEventSerializer.serialize(secondAccount)).thenReturn(secondMessage);
+    when(accountEventSerializer.contentType()).thenReturn(CONTENT_TYPE);
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(firstAccount.id(), firstMessage))))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(secondAccount.id(), secondMessage))))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    StepVerifier.create(deleteAccountKafkaProducer.sendMessages(
+            List.of(firstAccount, secondAccount)))
+        .verifyComplete();
+
+    assertEquals(2, sendTimerCount("success"));
+  }
 
-    when(objectMapper.writeValueAsString(account)).thenReturn(accountJson);
-    when(kafkaTemplate.send(DELETE_ACCOUNT_TOPIC, key, accountJson)).thenReturn(null);
+  @Test
+  @DisplayName("Send messages when acks pending should send every message in order first")
+  void sendMessages_whenAcksPending_shouldSendEveryMessageInOrderFirst() throws IOException {
+    Account firstAccount = new Account(UUID.randomUUID().toString(), "username1", "password",
+        "firstName", "lastName");
+    Account secondAccount = new Account(UUID.randomUUID().toString(), "username2", "password",
+        "firstName", "lastName");
+    byte[] firstMessage = {1};
+    byte[] secondMessage = {2};
+    CompletableFuture<SendResult<String, byte[]>> firstAck = new CompletableFuture<>();
+
+    when(accountEventSerializer.serialize(firstAccount)).thenReturn(firstMessage);
+    when(accountEventSerializer.serialize(secondAccount)).thenReturn(secondMessage);
+    when(accountEventSerializer.contentType()).thenReturn(CONTENT_TYPE);
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(firstAccount.id(), firstMessage))))
+        .thenReturn(firstAck);
+    when(kafkaTemplate.send(argThat(getRecordArgumentMatcher(secondAccount.id(), secondMessage))))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    var sent = deleteAccountKafkaProducer.sendMessages(List.of(firstAccount, secondAccount))
+        .toFuture();
+
+    var inOrder = inOrder(kafkaTemplate);
+    inOrder.verify(kafkaTemplate, timeout(1000))
+        .send(argThat(getRecordArgumentMatcher(firstAccount.id(), firstMessage)));
+    inOrder.verify(kafkaTemplate, timeout(1000))
+        .send(argThat(getRecordArgumentMatcher(secondAccount.id(), secondMessage)));
+    assertFalse(sent.isDone());
+
+    firstAck.complete(null);
+    sent.join();
+
+    assertEquals(2, sendTimerCount("success"));
+  }
 
-    deleteAccountKafkaProducer.sendMessage(key, account);
+  private ArgumentMatcher<ProducerRecord<String, byte[]>> getRecordArgumentMatcher(
+      final String key, final byte[] message) {
+    return producerRecord -> producerRecord != null
+        && DELETE_ACCOUNT_TOPIC.equals(producerRecord.topic())
+        && key.equals(producerRecord.key())
+        && message == producerRecord.value()
+        && CONTENT_TYPE.equals(new String(producerRecord.headers().lastHeader("content-type")
+        .value(), StandardCharsets.UTF_8));
+  }
 
-    verify(objectMapper, only()).writeValueAsString(account);
-    verify(kafkaTemplate, only()).send(DELETE_ACCOUNT_TOPIC, key, accountJson);
+  private long sendTimerCount(final String result) {
+    return meterRegistry.get("account.kafka.send")
+        .tag("topic", DELETE_ACCOUNT_TOPIC)
+        .tag("result", result)
+        .timer()
+        .count();
   }
 
 }
@@ -0,0 +1,225 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.messaging.DeleteAccountProducer;
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountMessagingException;
+import com.ibx.account.infrastructure.mapper.DeleteAccountOutboxMapper;
+import com.ibx.account.infrastructure.model.DeleteAccountOutboxDocument;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteAccountOutboxRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Mock
+  private ReactiveMongoTemplate mongoTemplate;
+
+  @Mock
+  private DeleteAccountProducer deleteAccountProducer;
+
+  @Mock
+  private DeleteAccountOutboxMapper deleteAccountOutboxMapper;
+
+  @Mock
+  private OutboxLease outboxLease;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private DeleteAccountOutboxRelay deleteAccountOutboxRelay;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    deleteAccountOutboxRelay = new DeleteAccountOutboxRelay(mongoTemplate, deleteAccountProducer,
+        deleteAccountOutboxMapper, outboxLease, meterRegistry, BATCH_SIZE, Duration.ofSeconds(1),
+        Duration.ofMillis(1), Duration.ofMillis(5), MAX_ATTEMPTS);
+  }
+
+  @Test
+  @DisplayName("Drain when outbox empty should not publish")
+  void drain_whenOutboxEmpty_shouldNotPublish() {
+    mockLease(true);
+    when(mongoTemplate.find(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Flux.empty());
+
+    StepVerifier.create(deleteAccountOutboxRelay.drain())
+        .expectNext(0L)
+        .verifyComplete();
+
+    verifyNoInteractions(deleteAccountProducer, deleteAccountOutboxMapper);
+  }
+
+  @Test
+  @DisplayName("Drain when several batches pending should relay them in order")
+  void drain_whenSeveralBatchesPending_shouldRelayThemInOrder() {
+    var first = buildOutboxDocument();
+    var second = buildOutboxDocument();
+    var third = buildOutboxDocument();
+    var firstAccount = mockToDomain(first);
+    var secondAccount = mockToDomain(second);
+    var thirdAccount = mockToDomain(third);
+
+    when(mongoTemplate.find(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Flux.just(first, second), Flux.just(third));
+    mockLease(true);
+    when(deleteAccountProducer.sendMessages(List.of(firstAccount, secondAccount)))
+        .thenReturn(Mono.empty());
+    when(deleteAccountProducer.sendMessages(List.of(thirdAccount)))
+        .thenReturn(Mono.empty());
+    when(mongoTemplate.remove(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(2)), Mono.just(
+            DeleteResult.acknowledged(1)));
+
+    StepVerifier.create(deleteAccountOutboxRelay.drain())
+        .expectNext(3L)
+        .verifyComplete();
+
+    verify(mongoTemplate, times(2))
+        .remove(any(Query.class), eq(DeleteAccountOutboxDocument.class));
+    assertEquals(3, counter("account.outbox.relayed"));
+  }
+
+  @Test
+  @DisplayName("Drain when publish fails should retry batch before removing it")
+  void drain_whenPublishFails_shouldRetryBatchBeforeRemovingIt() {
+    var document = buildOutboxDocument();
+    var account = mockToDomain(document);
+    var attempts = new AtomicInteger();
+
+    mockLease(true);
+    when(mongoTemplate.find(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Flux.just(document));
+    when(deleteAccountProducer.sendMessages(List.of(account)))
+        .thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+            ? Mono.error(new AccountMessagingException(
+                ErrorsEnum.DELETE_ACCOUNT_EVENT_NOT_PUBLISHED))
+            : Mono.empty()));
+    when(mongoTemplate.remove(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+
+    StepVerifier.create(deleteAccountOutboxRelay.drain())
+        .expectNext(1L)
+        .verifyComplete();
+
+    assertEquals(2, attempts.get());
+    verify(mongoTemplate).remove(any(Query.class), eq(DeleteAccountOutboxDocument.class));
+    assertEquals(1, counter("account.outbox.relay.failures"));
+  }
+
+  @Test
+  @DisplayName("Drain when lease held by another node should not read the outbox")
+  void drain_whenLeaseHeldByAnotherNode_shouldNotReadTheOutbox() {
+    mockLease(false);
+
+    StepVerifier.create(deleteAccountOutboxRelay.drain())
+        .expectNext(0L)
+        .verifyComplete();
+
+    verifyNoInteractions(mongoTemplate, deleteAccountProducer);
+  }
+
+  @Test
+  @DisplayName("Drain when broker stays unavailable should keep batch for next poll")
+  void drain_whenBrokerStaysUnavailable_shouldKeepBatchForNextPoll() {
+    var document = buildOutboxDocument();
+    var account = mockToDomain(document);
+    var exception = new AccountMessagingException(ErrorsEnum.DELETE_ACCOUNT_EVENT_NOT_PUBLISHED);
+    exception.initCause(new TimeoutException("broker unavailable"));
+
+    mockLease(true);
+    when(mongoTemplate.find(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Flux.just(document));
+    when(deleteAccountProducer.sendMessages(List.of(account))).thenReturn(Mono.error(exception));
+
+    StepVerifier.create(deleteAccountOutboxRelay.drain())
+        .expectNext(0L)
+        .verifyComplete();
+
+    verify(mongoTemplate, never()).remove(any(Query.class),
+        eq(DeleteAccountOutboxDocument.class));
+    verify(mongoTemplate, never()).insert(anyList(), anyString());
+    assertEquals(MAX_ATTEMPTS, counter("account.outbox.relay.failures"));
+  }
+
+  @Test
+  @DisplayName("Drain when batch unpublishable should move it to dead letter collection")
+  void drain_whenBatchUnpublishable_shouldMoveItToDeadLetterCollection() {
+    var document = buildOutboxDocument();
+    var account = mockToDomain(document);
+    var exception = new AccountMessagingException(ErrorsEnum.DELETE_ACCOUNT_EVENT_NOT_PUBLISHED);
+    exception.initCause(new IOException("unreadable account"));
+
+    mockLease(true);
+    when(mongoTemplate.find(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Flux.just(document));
+    when(deleteAccountProducer.sendMessages(List.of(account))).thenReturn(Mono.error(exception));
+    when(mongoTemplate.insert(List.of(document),
+        DeleteAccountOutboxRelay.DEAD_LETTER_COLLECTION)).thenReturn(Flux.just(document));
+    when(mongoTemplate.remove(any(Query.class), eq(DeleteAccountOutboxDocument.class)))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+
+    StepVerifier.create(deleteAccountOutboxRelay.drain())
+        .expectNext(1L)
+        .verifyComplete();
+
+    verify(mongoTemplate).remove(any(Query.class), eq(DeleteAccountOutboxDocument.class));
+    assertEquals(1, counter("account.outbox.dead-lettered"));
+    assertEquals(0, counter("account.outbox.relayed"));
+  }
+
+  private double counter(final String name) {
+    return meterRegistry.counter(name, "outbox", DeleteAccountOutboxRelay.LEASE_NAME).count();
+  }
+
+  private void mockLease(final boolean held) {
+    when(outboxLease.acquire(DeleteAccountOutboxRelay.LEASE_NAME)).thenReturn(Mono.just(held));
+  }
+
+  private DeleteAccountOutboxDocument buildOutboxDocument() {
+    var document = new DeleteAccountOutboxDocument();
+    document.setId(UUID.randomUUID().toString());
+    document.setAccountId(UUID.randomUUID().toString());
+    return document;
+  }
+
+  private Account mockToDomain(final DeleteAccountOutboxDocument document) {
+    var account = new Account(document.getAccountId(), "username", "password", "firstName",
+        "lastName");
+    when(deleteAccountOutboxMapper.toDomain(document)).thenReturn(account);
+    return account;
+  }
+
+}
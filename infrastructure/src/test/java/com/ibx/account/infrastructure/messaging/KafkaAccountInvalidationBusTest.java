@@ -0,0 +1,117 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaAccountInvalidationBusTest {
+
+  private static final String TOPIC = "account.invalidation.topic";
+
+  private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+  @Mock
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  @Mock
+  private ConsumerFactory<String, byte[]> consumerFactory;
+
+  private final List<Set<String>> deliveredBatches = new CopyOnWriteArrayList<>();
+
+  private MockConsumer<String, byte[]> consumer;
+
+  private KafkaAccountInvalidationBus kafkaAccountInvalidationBus;
+
+  @BeforeEach
+  void beforeEach() {
+    consumer = new MockConsumer<>(OffsetResetStrategy.LATEST);
+    consumer.updatePartitions(TOPIC, List.of(
+        new PartitionInfo(TOPIC, 0, null, null, null)));
+    consumer.updateEndOffsets(Map.of(PARTITION, 0L));
+    kafkaAccountInvalidationBus = new KafkaAccountInvalidationBus(kafkaTemplate,
+        consumerFactory, TOPIC, Duration.ZERO);
+    kafkaAccountInvalidationBus.subscribe(deliveredBatches::add);
+  }
+
+  @Test
+  @DisplayName("Poll when remote and own batches should deliver distinct remote ids once")
+  void poll_whenRemoteAndOwnBatches_shouldDeliverDistinctRemoteIdsOnce() {
+    final var ownOrigin = publishAndCaptureOrigin();
+
+    kafkaAccountInvalidationBus.seekToEnd(consumer);
+    consumer.addRecord(buildRecord(0, "a\nb", "other-node".getBytes(StandardCharsets.UTF_8)));
+    consumer.addRecord(buildRecord(1, "c", ownOrigin));
+    consumer.addRecord(buildRecord(2, "b\nd", "other-node".getBytes(StandardCharsets.UTF_8)));
+    kafkaAccountInvalidationBus.poll(consumer);
+
+    assertEquals(List.of(new LinkedHashSet<>(List.of("a", "b", "d"))), deliveredBatches);
+  }
+
+  @Test
+  @DisplayName("Poll when no records should not notify listeners")
+  void poll_whenNoRecords_shouldNotNotifyListeners() {
+    kafkaAccountInvalidationBus.seekToEnd(consumer);
+    kafkaAccountInvalidationBus.poll(consumer);
+
+    assertEquals(List.of(), deliveredBatches);
+  }
+
+  @SuppressWarnings("unchecked")
+  private byte[] publishAndCaptureOrigin() {
+    final var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+
+    when(kafkaTemplate.send(argThat((ProducerRecord<String, byte[]> producerRecord) ->
+        TOPIC.equals(producerRecord.topic())))).thenReturn(
+        CompletableFuture.completedFuture(null));
+
+    StepVerifier.create(kafkaAccountInvalidationBus.publish(
+            new LinkedHashSet<>(List.of("c", "e"))))
+        .verifyComplete();
+
+    verify(kafkaTemplate).send(captor.capture());
+    final ProducerRecord<String, byte[]> published = captor.getValue();
+    assertArrayEquals("c\ne".getBytes(StandardCharsets.UTF_8), published.value());
+    return published.headers().lastHeader("origin").value();
+  }
+
+  private ConsumerRecord<String, byte[]> buildRecord(final long offset, final String ids,
+      final byte[] origin) {
+    final var headers = new RecordHeaders();
+    headers.add("origin", origin);
+    return new ConsumerRecord<>(TOPIC, 0, offset, ConsumerRecord.NO_TIMESTAMP,
+        TimestampType.NO_TIMESTAMP_TYPE, ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE,
+        null, ids.getBytes(StandardCharsets.UTF_8), headers, Optional.empty());
+  }
+
+}
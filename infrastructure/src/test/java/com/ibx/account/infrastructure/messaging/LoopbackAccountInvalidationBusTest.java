@@ -0,0 +1,46 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class LoopbackAccountInvalidationBusTest {
+
+  @Test
+  @DisplayName("Publish when other buses connected should deliver to their listeners only")
+  void publish_whenOtherBusesConnected_shouldDeliverToTheirListenersOnly() {
+    var ownBatches = new CopyOnWriteArrayList<Set<String>>();
+    var firstPeerBatches = new CopyOnWriteArrayList<Set<String>>();
+    var secondPeerBatches = new CopyOnWriteArrayList<Set<String>>();
+    var loopbackBus = new LoopbackAccountInvalidationBus();
+    loopbackBus.subscribe(ownBatches::add);
+    loopbackBus.connect().subscribe(firstPeerBatches::add);
+    loopbackBus.connect().subscribe(secondPeerBatches::add);
+
+    StepVerifier.create(loopbackBus.publish(Set.of("a", "b")))
+        .verifyComplete();
+
+    assertEquals(List.of(), ownBatches);
+    assertEquals(List.of(Set.of("a", "b")), firstPeerBatches);
+    assertEquals(List.of(Set.of("a", "b")), secondPeerBatches);
+  }
+
+  @Test
+  @DisplayName("Publish when connected bus publishes should deliver to the first bus")
+  void publish_whenConnectedBusPublishes_shouldDeliverToTheFirstBus() {
+    var deliveredBatches = new CopyOnWriteArrayList<Set<String>>();
+    var loopbackBus = new LoopbackAccountInvalidationBus();
+    loopbackBus.subscribe(deliveredBatches::add);
+
+    StepVerifier.create(loopbackBus.connect().publish(Set.of("a")))
+        .verifyComplete();
+
+    assertEquals(List.of(Set.of("a")), deliveredBatches);
+  }
+
+}
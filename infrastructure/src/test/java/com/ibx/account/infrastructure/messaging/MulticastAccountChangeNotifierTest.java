@@ -0,0 +1,83 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ibx.account.domain.model.AccountChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class MulticastAccountChangeNotifierTest {
+
+  private static final int BUFFER_SIZE = 2;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private MulticastAccountChangeNotifier multicastAccountChangeNotifier;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    multicastAccountChangeNotifier = new MulticastAccountChangeNotifier(meterRegistry,
+        BUFFER_SIZE);
+  }
+
+  @Test
+  @DisplayName("Publish when several subscribers should deliver change to each of them")
+  void publish_whenSeveralSubscribers_shouldDeliverChangeToEachOfThem() {
+    var accountChange = buildAccountChange();
+
+    var first = StepVerifier.create(multicastAccountChangeNotifier.subscribe())
+        .expectNext(accountChange)
+        .thenCancel()
+        .verifyLater();
+    var second = StepVerifier.create(multicastAccountChangeNotifier.subscribe())
+        .expectNext(accountChange)
+        .thenCancel()
+        .verifyLater();
+
+    assertEquals(2, meterRegistry.get("account.notifications.subscribers").gauge().value());
+
+    multicastAccountChangeNotifier.publish(accountChange).block();
+
+    first.verify();
+    second.verify();
+  }
+
+  @Test
+  @DisplayName("Publish when subscriber falls behind should drop oldest changes")
+  void publish_whenSubscriberFallsBehind_shouldDropOldestChanges() {
+    var first = buildAccountChange();
+    var second = buildAccountChange();
+    var third = buildAccountChange();
+
+    StepVerifier.create(multicastAccountChangeNotifier.subscribe(), 0)
+        .then(() -> {
+          multicastAccountChangeNotifier.publish(first).block();
+          multicastAccountChangeNotifier.publish(second).block();
+          multicastAccountChangeNotifier.publish(third).block();
+        })
+        .thenRequest(BUFFER_SIZE)
+        .expectNext(second, third)
+        .thenCancel()
+        .verify();
+
+    assertEquals(1, meterRegistry.counter("account.notifications.dropped").count());
+  }
+
+  @Test
+  @DisplayName("Publish when no subscribers should complete")
+  void publish_whenNoSubscribers_shouldComplete() {
+    StepVerifier.create(multicastAccountChangeNotifier.publish(buildAccountChange()))
+        .verifyComplete();
+  }
+
+  private AccountChange buildAccountChange() {
+    return AccountChange.deleted(UUID.randomUUID().toString(), Instant.now());
+  }
+
+}
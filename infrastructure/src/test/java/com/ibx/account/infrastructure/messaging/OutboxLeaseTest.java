@@ -0,0 +1,69 @@
+package com.ibx.account.infrastructure.messaging;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.infrastructure.model.OutboxLeaseDocument;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxLeaseTest {
+
+  private static final String LEASE_NAME = "outbox";
+
+  @Mock
+  private ReactiveMongoTemplate mongoTemplate;
+
+  private OutboxLease outboxLease;
+
+  @BeforeEach
+  void beforeEach() {
+    outboxLease = new OutboxLease(mongoTemplate, Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("Acquire when lease free or own should hold it")
+  void acquire_whenLeaseFreeOrOwn_shouldHoldIt() {
+    when(mongoTemplate.upsert(any(Query.class), any(UpdateDefinition.class),
+        eq(OutboxLeaseDocument.class)))
+        .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+    StepVerifier.create(outboxLease.acquire(LEASE_NAME))
+        .expectNext(true)
+        .verifyComplete();
+
+    verify(mongoTemplate).upsert(argThat(query -> query.getQueryObject().get("_id") == null
+            && LEASE_NAME.equals(query.getQueryObject().get("id"))
+            && query.getQueryObject().containsKey("$or")),
+        any(UpdateDefinition.class), eq(OutboxLeaseDocument.class));
+  }
+
+  @Test
+  @DisplayName("Acquire when lease held by another node should not hold it")
+  void acquire_whenLeaseHeldByAnotherNode_shouldNotHoldIt() {
+    when(mongoTemplate.upsert(any(Query.class), any(UpdateDefinition.class),
+        eq(OutboxLeaseDocument.class)))
+        .thenReturn(Mono.error(new DuplicateKeyException("lease held")));
+
+    StepVerifier.create(outboxLease.acquire(LEASE_NAME))
+        .expectNext(false)
+        .verifyComplete();
+  }
+
+}
@@ -0,0 +1,78 @@
+package com.ibx.account.infrastructure.repository;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountTombstoneDocument;
+import java.time.Duration;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIndexInitializerTest {
+
+  private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(7);
+
+  @Mock
+  private ReactiveMongoTemplate mongoTemplate;
+
+  @Mock
+  private ReactiveIndexOperations indexOperations;
+
+  @Mock
+  private ReactiveIndexOperations tombstoneIndexOperations;
+
+  @InjectMocks
+  private AccountIndexInitializer accountIndexInitializer;
+
+  @BeforeEach
+  void beforeEach() {
+    ReflectionTestUtils.setField(accountIndexInitializer, "tombstoneRetention",
+        TOMBSTONE_RETENTION);
+  }
+
+  @Test
+  @DisplayName("After singletons instantiated then ensure unique username and change indexes")
+  void afterSingletonsInstantiated_thenEnsureUniqueUsernameAndChangeIndexes() {
+    when(mongoTemplate.indexOps(AccountDocument.class)).thenReturn(indexOperations);
+    when(mongoTemplate.indexOps(AccountTombstoneDocument.class))
+        .thenReturn(tombstoneIndexOperations);
+    when(indexOperations.ensureIndex(argThat(index -> true)))
+        .thenReturn(Mono.just(AccountIndexInitializer.USERNAME_INDEX),
+            Mono.just(AccountIndexInitializer.UPDATED_AT_INDEX));
+    when(tombstoneIndexOperations.ensureIndex(argThat(index -> true)))
+        .thenReturn(Mono.just(AccountIndexInitializer.DELETED_AT_INDEX));
+
+    accountIndexInitializer.afterSingletonsInstantiated();
+
+    verify(indexOperations).ensureIndex(argThat(index ->
+        index.getIndexKeys().equals(new Document("username", 1))
+            && Boolean.TRUE.equals(index.getIndexOptions().get("unique"))
+            && AccountIndexInitializer.USERNAME_INDEX.equals(
+            index.getIndexOptions().get("name"))));
+    verify(indexOperations).ensureIndex(argThat(index ->
+        index.getIndexKeys().equals(new Document("updatedAt", 1))
+            && AccountIndexInitializer.UPDATED_AT_INDEX.equals(
+            index.getIndexOptions().get("name"))));
+    verify(indexOperations, times(2)).ensureIndex(argThat(index -> true));
+    verify(tombstoneIndexOperations, only()).ensureIndex(argThat(index ->
+        index.getIndexKeys().equals(new Document("deletedAt", 1))
+            && Long.valueOf(TOMBSTONE_RETENTION.toSeconds()).equals(
+            index.getIndexOptions().get("expireAfterSeconds"))));
+  }
+
+}
@@ -1,8 +1,11 @@
 package com.ibx.account.infrastructure.repository;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,17 +14,31 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountChange;
+import com.ibx.account.domain.model.AccountChangeType;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
 import com.ibx.account.domain.model.errors.ErrorsEnum;
 import com.ibx.account.domain.model.exception.AccountRepositoryException;
 import com.ibx.account.infrastructure.mapper.AccountDocumentMapper;
 import com.ibx.account.infrastructure.mapper.AccountErrorMapper;
+import com.ibx.account.infrastructure.mapper.AccountTombstoneMapper;
+import com.ibx.account.infrastructure.mapper.DeleteAccountOutboxMapper;
 import com.ibx.account.infrastructure.model.AccountDocument;
+import com.ibx.account.infrastructure.model.AccountSnapshotOutboxDocument;
+import com.ibx.account.infrastructure.model.AccountTombstoneDocument;
+import com.ibx.account.infrastructure.model.DeleteAccountOutboxDocument;
 import com.mongodb.MongoException;
-import com.mongodb.client.result.UpdateResult;
+import com.mongodb.bulk.BulkWriteResult;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,9 +46,14 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -39,6 +61,10 @@ import reactor.test.StepVerifier;
 @ExtendWith(MockitoExtension.class)
 class AccountRepositoryImplTest {
 
+  private static final int EXPORT_BATCH_SIZE = 100;
+
+  private static final Duration CHANGES_OVERLAP = Duration.ofSeconds(5);
+
   @Mock
   private ReactiveMongoTemplate mongoTemplate;
 
@@ -48,9 +74,24 @@ class AccountRepositoryImplTest {
   @Mock
   private AccountErrorMapper accountErrorMapper;
 
+  @Mock
+  private DeleteAccountOutboxMapper deleteAccountOutboxMapper;
+
+  @Mock
+  private AccountTombstoneMapper accountTombstoneMapper;
+
+  @Mock
+  private TransactionalOperator transactionalOperator;
+
   @InjectMocks
   private AccountRepositoryImpl accountRepositoryImpl;
 
+  @BeforeEach
+  void beforeEach() {
+    ReflectionTestUtils.setField(accountRepositoryImpl, "exportBatchSize", EXPORT_BATCH_SIZE);
+    ReflectionTestUtils.setField(accountRepositoryImpl, "changesOverlap", CHANGES_OVERLAP);
+  }
+
   @Test
   @DisplayName("Find by id when mongo error then return expected error")
   void findById_whenMongoError_thenReturnExpectedError() {
@@ -59,17 +100,17 @@ class AccountRepositoryImplTest {
     var accountRepositoryException = new AccountRepositoryException(
         ErrorsEnum.INTERNAL_SERVER_ERROR);
 
-    when(mongoTemplate.findById(accountId, AccountDocument.class))
+    when(mongoTemplate.findOne(any(Query.class), eq(AccountDocument.class)))
         .thenReturn(Mono.error(mongoException));
     when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
 
-    var result = accountRepositoryImpl.findById(accountId);
+    var result = accountRepositoryImpl.findById(accountId, AccountField.ALL);
 
     StepVerifier.create(result)
         .expectError(AccountRepositoryException.class)
         .verify();
 
-    verify(mongoTemplate, only()).findById(accountId, AccountDocument.class);
+    verify(mongoTemplate, only()).findOne(any(Query.class), eq(AccountDocument.class));
     verify(accountErrorMapper, only()).mapMongoError(mongoException);
     verifyNoInteractions(accountDocumentMapper);
   }
@@ -79,168 +120,284 @@ class AccountRepositoryImplTest {
   void findById_whenSuccess_thenReturnExpectedAccount() {
     var accountId = UUID.randomUUID().toString();
     var accountDocument = new AccountDocument();
-    var account = new Account(UUID.randomUUID().toString(), "username", "password",
+    var account = new Account(UUID.randomUUID().toString(), "username", null,
         "firstName", "lastName");
 
-    when(mongoTemplate.findById(accountId, AccountDocument.class))
+    when(mongoTemplate.findOne(any(Query.class), eq(AccountDocument.class)))
         .thenReturn(Mono.just(accountDocument));
     when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
 
-    var result = accountRepositoryImpl.findById(accountId);
+    var result = accountRepositoryImpl.findById(accountId, AccountField.ALL);
 
     StepVerifier.create(result)
         .expectNext(account)
         .verifyComplete();
 
-    verify(mongoTemplate, only()).findById(accountId, AccountDocument.class);
+    verify(mongoTemplate, only()).findOne(
+        argThat(query -> getQueryArgumentMatcher(List.of("id")).matches(query)
+            && getProjectionArgumentMatcher(AccountField.ALL).matches(query)),
+        eq(AccountDocument.class));
     verify(accountDocumentMapper, only()).toDomain(accountDocument);
     verifyNoInteractions(accountErrorMapper);
   }
 
   @Test
-  @DisplayName("Find by username when mongo error then return expected error")
-  void findByUsername_whenMongoError_thenReturnExpectedError() {
+  @DisplayName("Find by id when partial fields then project only requested fields")
+  void findById_whenPartialFields_thenProjectOnlyRequestedFields() {
     var accountId = UUID.randomUUID().toString();
-    var mongoException = new MongoException("");
-    var accountRepositoryException = new AccountRepositoryException(
-        ErrorsEnum.INTERNAL_SERVER_ERROR);
+    var accountDocument = new AccountDocument();
+    var account = new Account(accountId, "username", null, null, null);
 
     when(mongoTemplate.findOne(any(Query.class), eq(AccountDocument.class)))
-        .thenReturn(Mono.error(mongoException));
-    when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
+        .thenReturn(Mono.just(accountDocument));
+    when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
 
-    var result = accountRepositoryImpl.findByUsername(accountId);
+    var result = accountRepositoryImpl.findById(accountId, Set.of(AccountField.USERNAME));
 
     StepVerifier.create(result)
-        .expectError(AccountRepositoryException.class)
-        .verify();
+        .expectNext(account)
+        .verifyComplete();
 
-    verify(mongoTemplate, only()).findOne(argThat(getQueryArgumentMatcher(List.of("username"))),
+    verify(mongoTemplate, only()).findOne(
+        argThat(query -> query.getFieldsObject()
+            .equals(new Document("id", 1).append("username", 1))),
         eq(AccountDocument.class));
-    verify(accountErrorMapper, only()).mapMongoError(mongoException);
-    verifyNoInteractions(accountDocumentMapper);
   }
 
   @Test
-  @DisplayName("Find by username when success then return expected account")
-  void findByUsername_whenSuccess_thenReturnExpectedAccount() {
-    var username = "username";
+  @DisplayName("Find all by id when success then return expected accounts")
+  void findAllById_whenSuccess_thenReturnExpectedAccounts() {
+    var accountId = UUID.randomUUID().toString();
     var accountDocument = new AccountDocument();
-    var account = new Account(UUID.randomUUID().toString(), "username", "password",
-        "firstName", "lastName");
+    var account = new Account(accountId, "username", null, "firstName", "lastName");
 
-    when(mongoTemplate.findOne(any(), eq(AccountDocument.class)))
-        .thenReturn(Mono.just(accountDocument));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument));
     when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
 
-    var result = accountRepositoryImpl.findByUsername(username);
+    var result = accountRepositoryImpl.findAllById(List.of(accountId), AccountField.ALL);
 
     StepVerifier.create(result)
         .expectNext(account)
         .verifyComplete();
 
-    verify(mongoTemplate, only()).findOne(argThat(getQueryArgumentMatcher(List.of("username"))),
+    verify(mongoTemplate, only()).find(
+        argThat(query -> query.getQueryObject()
+            .equals(new Document("id", new Document("$in", List.of(accountId))))
+            && getProjectionArgumentMatcher(AccountField.ALL).matches(query)),
         eq(AccountDocument.class));
     verify(accountDocumentMapper, only()).toDomain(accountDocument);
     verifyNoInteractions(accountErrorMapper);
   }
 
   @Test
-  @DisplayName("Find by username and id not is when mongo error then return expected error")
-  void findByUsernameAndIdNotIs_whenMongoError_thenReturnExpectedError() {
-    var username = "username";
-    var accountId = UUID.randomUUID().toString();
+  @DisplayName("Find all by id when mongo error then return expected error")
+  void findAllById_whenMongoError_thenReturnExpectedError() {
     var mongoException = new MongoException("");
     var accountRepositoryException = new AccountRepositoryException(
         ErrorsEnum.INTERNAL_SERVER_ERROR);
 
-    when(mongoTemplate.findOne(any(Query.class), eq(AccountDocument.class)))
-        .thenReturn(Mono.error(mongoException));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.error(mongoException));
     when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
 
-    var result = accountRepositoryImpl.findByUsernameAndIdNotIs(username, accountId);
+    var result = accountRepositoryImpl.findAllById(List.of(UUID.randomUUID().toString()),
+        AccountField.ALL);
 
     StepVerifier.create(result)
         .expectError(AccountRepositoryException.class)
         .verify();
 
-    verify(mongoTemplate, only()).findOne(
-        argThat(getQueryArgumentMatcher(List.of("username", "id"))),
-        eq(AccountDocument.class));
     verify(accountErrorMapper, only()).mapMongoError(mongoException);
     verifyNoInteractions(accountDocumentMapper);
   }
 
   @Test
-  @DisplayName("Find by username and id not is when success then return expected account")
-  void findByUsernameAndIdNotIs_whenSuccess_thenReturnExpectedAccount() {
-    var username = "username";
-    var accountId = UUID.randomUUID().toString();
+  @DisplayName("Find all when mongo error then return expected error")
+  void findAll_whenMongoError_thenReturnExpectedError() {
+    var mongoException = new MongoException("");
+    var accountRepositoryException = new AccountRepositoryException(
+        ErrorsEnum.INTERNAL_SERVER_ERROR);
+
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.error(mongoException));
+    when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
+
+    var result = accountRepositoryImpl.findAll(null, 10, AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectError(AccountRepositoryException.class)
+        .verify();
+
+    verify(mongoTemplate, only()).find(any(Query.class), eq(AccountDocument.class));
+    verify(accountErrorMapper, only()).mapMongoError(mongoException);
+    verifyNoInteractions(accountDocumentMapper);
+  }
+
+  @Test
+  @DisplayName("Find all when first page then return expected accounts")
+  void findAll_whenFirstPage_thenReturnExpectedAccounts() {
     var accountDocument = new AccountDocument();
     var account = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
 
-    when(mongoTemplate.findOne(any(), eq(AccountDocument.class)))
-        .thenReturn(Mono.just(accountDocument));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument));
+    when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
+
+    var result = accountRepositoryImpl.findAll(null, 10, AccountField.ALL);
+
+    StepVerifier.create(result)
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(mongoTemplate, only()).find(argThat(getPageQueryArgumentMatcher(false, 10)),
+        eq(AccountDocument.class));
+    verify(accountDocumentMapper, only()).toDomain(accountDocument);
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Find all when next page then return expected accounts")
+  void findAll_whenNextPage_thenReturnExpectedAccounts() {
+    var after = UUID.randomUUID().toString();
+    var accountDocument = new AccountDocument();
+    var account = new Account(UUID.randomUUID().toString(), "username", "password",
+        "firstName", "lastName");
+
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument));
     when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
 
-    var result = accountRepositoryImpl.findByUsernameAndIdNotIs(username, accountId);
+    var result = accountRepositoryImpl.findAll(after, 10, AccountField.ALL);
 
     StepVerifier.create(result)
         .expectNext(account)
         .verifyComplete();
 
-    verify(mongoTemplate, only()).findOne(
-        argThat(getQueryArgumentMatcher(List.of("username", "id"))),
+    verify(mongoTemplate, only()).find(argThat(getPageQueryArgumentMatcher(true, 10)),
         eq(AccountDocument.class));
     verify(accountDocumentMapper, only()).toDomain(accountDocument);
     verifyNoInteractions(accountErrorMapper);
   }
 
   @Test
-  @DisplayName("Find all when mongo error then return expected error")
-  void findAll_whenMongoError_thenReturnExpectedError() {
+  @DisplayName("Stream all when mongo error then return expected error")
+  void streamAll_whenMongoError_thenReturnExpectedError() {
     var mongoException = new MongoException("");
     var accountRepositoryException = new AccountRepositoryException(
         ErrorsEnum.INTERNAL_SERVER_ERROR);
 
-    when(mongoTemplate.findAll(AccountDocument.class))
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
         .thenReturn(Flux.error(mongoException));
     when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
 
-    var result = accountRepositoryImpl.findAll();
+    var result = accountRepositoryImpl.streamAll(AccountField.ALL);
 
     StepVerifier.create(result)
         .expectError(AccountRepositoryException.class)
         .verify();
 
-    verify(mongoTemplate, only()).findAll(AccountDocument.class);
+    verify(mongoTemplate, only()).find(any(Query.class), eq(AccountDocument.class));
     verify(accountErrorMapper, only()).mapMongoError(mongoException);
     verifyNoInteractions(accountDocumentMapper);
   }
 
   @Test
-  @DisplayName("Find all when success then return expected accounts")
-  void findAll_whenSuccess_thenReturnExpectedAccounts() {
+  @DisplayName("Stream all when success then return expected accounts")
+  void streamAll_whenSuccess_thenReturnExpectedAccounts() {
     var accountDocument = new AccountDocument();
     var account = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
 
-    when(mongoTemplate.findAll(AccountDocument.class))
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
         .thenReturn(Flux.just(accountDocument));
     when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
 
-    var result = accountRepositoryImpl.findAll();
+    var result = accountRepositoryImpl.streamAll(AccountField.ALL);
 
     StepVerifier.create(result)
-        .expectNextCount(1)
+        .expectNext(account)
         .verifyComplete();
 
-    verify(mongoTemplate, only()).findAll(AccountDocument.class);
+    verify(mongoTemplate, only()).find(
+        argThat(query -> query.getMeta().getCursorBatchSize() == EXPORT_BATCH_SIZE
+            && getProjectionArgumentMatcher(AccountField.ALL).matches(query)),
+        eq(AccountDocument.class));
     verify(accountDocumentMapper, only()).toDomain(accountDocument);
     verifyNoInteractions(accountErrorMapper);
   }
 
+  @Test
+  @DisplayName("Find changes since when success then merge updates and deletions in order")
+  void findChangesSince_whenSuccess_thenMergeUpdatesAndDeletionsInOrder() {
+    var since = Instant.parse("2024-01-01T00:00:00Z");
+    var firstDocument = new AccountDocument();
+    firstDocument.setUpdatedAt(since.plusSeconds(1));
+    var secondDocument = new AccountDocument();
+    secondDocument.setUpdatedAt(since.plusSeconds(3));
+    var tombstoneDocument = new AccountTombstoneDocument();
+    tombstoneDocument.setAccountId(UUID.randomUUID().toString());
+    tombstoneDocument.setDeletedAt(since.plusSeconds(2));
+    var firstAccount = new Account(UUID.randomUUID().toString(), "username1", null,
+        "firstName", "lastName");
+    var secondAccount = new Account(UUID.randomUUID().toString(), "username2", null,
+        "firstName", "lastName");
+
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(firstDocument, secondDocument));
+    when(mongoTemplate.find(any(Query.class), eq(AccountTombstoneDocument.class)))
+        .thenReturn(Flux.just(tombstoneDocument));
+    when(accountDocumentMapper.toDomain(firstDocument)).thenReturn(firstAccount);
+    when(accountDocumentMapper.toDomain(secondDocument)).thenReturn(secondAccount);
+
+    var result = accountRepositoryImpl.findChangesSince(since);
+
+    StepVerifier.create(result)
+        .expectNext(AccountChange.updated(firstAccount, since.plusSeconds(1)))
+        .expectNext(AccountChange.deleted(tombstoneDocument.getAccountId(),
+            since.plusSeconds(2)))
+        .expectNext(AccountChange.updated(secondAccount, since.plusSeconds(3)))
+        .verifyComplete();
+
+    verify(mongoTemplate).find(
+        argThat(query -> new Document("$gte", since.minus(CHANGES_OVERLAP))
+            .equals(query.getQueryObject().get("updatedAt"))
+            && query.getSortObject().containsKey("updatedAt")
+            && query.getFieldsObject().containsKey("updatedAt")
+            && !query.getFieldsObject().containsKey("password")),
+        eq(AccountDocument.class));
+    verify(mongoTemplate).find(
+        argThat(query -> new Document("$gte", since.minus(CHANGES_OVERLAP))
+            .equals(query.getQueryObject().get("deletedAt"))
+            && query.getSortObject().containsKey("deletedAt")),
+        eq(AccountTombstoneDocument.class));
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Find changes since when mongo error then return expected error")
+  void findChangesSince_whenMongoError_thenReturnExpectedError() {
+    var mongoException = new MongoException("");
+    var accountRepositoryException = new AccountRepositoryException(
+        ErrorsEnum.INTERNAL_SERVER_ERROR);
+
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.error(mongoException));
+    when(mongoTemplate.find(any(Query.class), eq(AccountTombstoneDocument.class)))
+        .thenReturn(Flux.empty());
+    when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
+
+    var result = accountRepositoryImpl.findChangesSince(Instant.now());
+
+    StepVerifier.create(result)
+        .expectError(AccountRepositoryException.class)
+        .verify();
+
+    verify(accountErrorMapper, only()).mapMongoError(mongoException);
+    verifyNoInteractions(accountDocumentMapper);
+  }
+
   @Test
   @DisplayName("Save when mongo error then return expected error")
   void save_whenMongoError_thenReturnExpectedError() {
@@ -253,7 +410,10 @@ class AccountRepositoryImplTest {
 
     when(accountDocumentMapper.toInfrastructure(accountRequest)).thenReturn(accountDocumentRequest);
     when(mongoTemplate.save(accountDocumentRequest)).thenReturn(Mono.error(mongoException));
-    when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
+    mockMonoTransaction();
+    when(accountErrorMapper.mapMongoError(mongoException,
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, "username"))
+        .thenReturn(accountRepositoryException);
 
     var result = accountRepositoryImpl.save(accountRequest);
 
@@ -263,7 +423,8 @@ class AccountRepositoryImplTest {
 
     verify(accountDocumentMapper, only()).toInfrastructure(accountRequest);
     verify(mongoTemplate, only()).save(accountDocumentRequest);
-    verify(accountErrorMapper, only()).mapMongoError(mongoException);
+    verify(accountErrorMapper, only()).mapMongoError(mongoException,
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS, "username");
   }
 
   @Test
@@ -273,11 +434,14 @@ class AccountRepositoryImplTest {
         "firstName", "lastName");
     var accountDocumentRequest = new AccountDocument();
     var accountDocument = new AccountDocument();
+    accountDocument.setId(UUID.randomUUID().toString());
     var account = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
 
     when(accountDocumentMapper.toInfrastructure(accountRequest)).thenReturn(accountDocumentRequest);
     when(mongoTemplate.save(accountDocumentRequest)).thenReturn(Mono.just(accountDocument));
+    mockSnapshotOutbox();
+    mockMonoTransaction();
     when(accountDocumentMapper.toDomain(accountDocument)).thenReturn(account);
 
     var result = accountRepositoryImpl.save(accountRequest);
@@ -289,7 +453,252 @@ class AccountRepositoryImplTest {
     verify(accountDocumentMapper, times(1)).toInfrastructure(accountRequest);
     verify(accountDocumentMapper, times(1)).toDomain(accountDocument);
     verifyNoMoreInteractions(accountDocumentMapper);
-    verify(mongoTemplate, only()).save(accountDocumentRequest);
+    verify(mongoTemplate).save(
+        argThat((AccountDocument document) -> Objects.nonNull(document.getUpdatedAt())));
+    verifySnapshotOutbox(AccountChangeType.CREATED, List.of(accountDocument.getId()));
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Save all when success then return created ids")
+  void saveAll_whenSuccess_thenReturnCreatedIds() {
+    var firstAccount = new Account(null, "username1", "password", "firstName", "lastName");
+    var secondAccount = new Account(null, "username2", "password", "firstName", "lastName");
+    var firstDocument = accountDocument(null, "username1");
+    var secondDocument = accountDocument(null, "username2");
+    var bulkOperations = mock(ReactiveBulkOperations.class);
+
+    when(accountDocumentMapper.toInfrastructure(firstAccount)).thenReturn(firstDocument);
+    when(accountDocumentMapper.toInfrastructure(secondAccount)).thenReturn(secondDocument);
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.empty());
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, AccountDocument.class))
+        .thenReturn(bulkOperations);
+    mockSnapshotOutbox();
+    when(bulkOperations.insert(List.of(firstDocument, secondDocument)))
+        .thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.saveAll(List.of(firstAccount, secondAccount));
+
+    StepVerifier.create(result)
+        .expectNextMatches(item -> item.index() == 0 && Objects.nonNull(item.id())
+            && item.id().equals(firstDocument.getId()) && Objects.isNull(item.error()))
+        .expectNextMatches(item -> item.index() == 1 && Objects.nonNull(item.id())
+            && item.id().equals(secondDocument.getId()) && Objects.isNull(item.error()))
+        .verifyComplete();
+
+    verify(mongoTemplate).find(argThat(getQueryArgumentMatcher(List.of("username"))),
+        eq(AccountDocument.class));
+    verifySnapshotOutbox(AccountChangeType.CREATED,
+        List.of(firstDocument.getId(), secondDocument.getId()));
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Save all when several usernames taken then write the others in a single round")
+  void saveAll_whenSeveralUsernamesTaken_thenWriteTheOthersInASingleRound() {
+    var accounts = List.of(
+        new Account(null, "taken1", "password", "firstName", "lastName"),
+        new Account(null, "free1", "password", "firstName1", "lastName"),
+        new Account(null, "free1", "password", "firstName2", "lastName"),
+        new Account(null, "taken2", "password", "firstName", "lastName"),
+        new Account(null, "free2", "password", "firstName", "lastName"));
+    var documents = accounts.stream()
+        .map(account -> accountDocument(null, account.username()))
+        .toList();
+    var bulkOperations = mock(ReactiveBulkOperations.class);
+
+    for (var index = 0; index < accounts.size(); index++) {
+      when(accountDocumentMapper.toInfrastructure(accounts.get(index)))
+          .thenReturn(documents.get(index));
+    }
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument(UUID.randomUUID().toString(), "taken1"),
+            accountDocument(UUID.randomUUID().toString(), "taken2")));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, AccountDocument.class))
+        .thenReturn(bulkOperations);
+    mockSnapshotOutbox();
+    when(bulkOperations.insert(any(List.class))).thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.saveAll(accounts);
+
+    StepVerifier.create(result)
+        .expectNext(BulkItemResult.failed(0, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS))
+        .expectNextMatches(item -> item.index() == 1 && Objects.isNull(item.error()))
+        .expectNext(BulkItemResult.failed(2, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS))
+        .expectNext(BulkItemResult.failed(3, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS))
+        .expectNextMatches(item -> item.index() == 4 && Objects.isNull(item.error()))
+        .verifyComplete();
+
+    verify(transactionalOperator, times(1)).transactional(any(Mono.class));
+    verify(mongoTemplate, times(1)).find(any(Query.class), eq(AccountDocument.class));
+    verify(mongoTemplate, times(1)).bulkOps(BulkMode.UNORDERED, AccountDocument.class);
+    verify(bulkOperations).insert(List.of(documents.get(1), documents.get(4)));
+    verifySnapshotOutbox(AccountChangeType.CREATED,
+        List.of(documents.get(1).getId(), documents.get(4).getId()));
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Save all when a username is taken concurrently then write the others again")
+  void saveAll_whenUsernameTakenConcurrently_thenWriteTheOthersAgain() {
+    var firstAccount = new Account(null, "username1", "password", "firstName", "lastName");
+    var secondAccount = new Account(null, "username2", "password", "firstName", "lastName");
+    var firstDocument = accountDocument(null, "username1");
+    var secondDocument = accountDocument(null, "username2");
+    var bulkOperations = mock(ReactiveBulkOperations.class);
+    var mongoException = new MongoException("");
+
+    when(accountDocumentMapper.toInfrastructure(firstAccount)).thenReturn(firstDocument);
+    when(accountDocumentMapper.toInfrastructure(secondAccount)).thenReturn(secondDocument);
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.empty());
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, AccountDocument.class))
+        .thenReturn(bulkOperations);
+    mockSnapshotOutbox();
+    when(bulkOperations.insert(any(List.class))).thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenReturn(Mono.error(mongoException),
+        Mono.just(BulkWriteResult.unacknowledged()));
+    when(accountErrorMapper.mapBulkWriteErrors(mongoException, 2,
+        ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS))
+        .thenReturn(Map.of(1, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS));
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.saveAll(List.of(firstAccount, secondAccount));
+
+    StepVerifier.create(result)
+        .expectNext(BulkItemResult.created(0, firstDocument.getId(),
+            firstDocument.getUpdatedAt()))
+        .expectNext(BulkItemResult.failed(1, ErrorsEnum.ACCOUNT_REGISTER_USERNAME_ALREADY_EXISTS))
+        .verifyComplete();
+
+    verify(transactionalOperator, times(2)).transactional(any(Mono.class));
+    verify(bulkOperations).insert(List.of(firstDocument));
+    verifySnapshotOutbox(AccountChangeType.CREATED, List.of(firstDocument.getId()));
+  }
+
+  @Test
+  @DisplayName("Save all when lookup keeps failing then fail every item")
+  void saveAll_whenLookupKeepsFailing_thenFailEveryItem() {
+    var account = new Account(null, "username", "password", "firstName", "lastName");
+
+    when(accountDocumentMapper.toInfrastructure(account))
+        .thenReturn(accountDocument(null, "username"));
+    when(mongoTemplate.find(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.error(new MongoException("")));
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.saveAll(List.of(account));
+
+    StepVerifier.create(result)
+        .expectNext(BulkItemResult.failed(0, ErrorsEnum.INTERNAL_SERVER_ERROR))
+        .verifyComplete();
+
+    verify(mongoTemplate, never()).bulkOps(BulkMode.UNORDERED, AccountDocument.class);
+  }
+
+  @Test
+  @DisplayName("Update all when every account matched then return success per account")
+  void updateAll_whenEveryAccountMatched_thenReturnSuccessPerAccount() {
+    var firstAccount = new Account(UUID.randomUUID().toString(), "username1", "password",
+        "firstName", "lastName");
+    var secondAccount = new Account(UUID.randomUUID().toString(), "username2", "password",
+        "firstName", "lastName");
+    var bulkOperations = mock(ReactiveBulkOperations.class);
+
+    when(mongoTemplate.find(argThat(getQueryArgumentMatcher(List.of("id"))),
+        eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument(firstAccount.id(), "username1"),
+            accountDocument(secondAccount.id(), "username0")));
+    when(mongoTemplate.find(argThat(getQueryArgumentMatcher(List.of("username"))),
+        eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument(firstAccount.id(), "username1")));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, AccountDocument.class))
+        .thenReturn(bulkOperations);
+    mockSnapshotOutbox();
+    when(bulkOperations.execute()).thenReturn(Mono.just(
+        BulkWriteResult.acknowledged(0, 2, 0, 2, List.of(), List.of())));
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.updateAll(List.of(firstAccount, secondAccount));
+
+    StepVerifier.create(result)
+        .expectNextMatches(item -> item.index() == 0 && firstAccount.id().equals(item.id())
+            && item.error() == null && item.changedAt() != null)
+        .expectNextMatches(item -> item.index() == 1 && secondAccount.id().equals(item.id())
+            && item.error() == null && item.changedAt() != null)
+        .verifyComplete();
+
+    verify(bulkOperations, times(2)).updateOne(argThat(getQueryArgumentMatcher(List.of("id"))),
+        argThat(getUpdateDefinitionArgumentMatcher(
+            List.of("username", "password", "firstName", "lastName"))));
+    verify(mongoTemplate).bulkOps(BulkMode.UNORDERED, AccountDocument.class);
+    verifySnapshotOutbox(AccountChangeType.UPDATED,
+        List.of(firstAccount.id(), secondAccount.id()));
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Update all when accounts missing or conflicting then write the others in a "
+      + "single round")
+  void updateAll_whenAccountsMissingOrConflicting_thenWriteTheOthersInASingleRound() {
+    var firstAccount = new Account(UUID.randomUUID().toString(), "username1", "password",
+        "firstName", "lastName");
+    var missingAccount = new Account(UUID.randomUUID().toString(), "username2", "password",
+        "firstName", "lastName");
+    var conflictingAccount = new Account(UUID.randomUUID().toString(), "username3", "password",
+        "firstName", "lastName");
+    var duplicateAccount = new Account(UUID.randomUUID().toString(), "username1", "password",
+        "firstName", "lastName");
+    var renamingAccount = new Account(UUID.randomUUID().toString(), "username4", "password",
+        "firstName", "lastName");
+    var swappingAccount = new Account(UUID.randomUUID().toString(), "username5", "password",
+        "firstName", "lastName");
+    var bulkOperations = mock(ReactiveBulkOperations.class);
+
+    when(mongoTemplate.find(argThat(getQueryArgumentMatcher(List.of("id"))),
+        eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument(firstAccount.id(), "username1"),
+            accountDocument(conflictingAccount.id(), "old3"),
+            accountDocument(duplicateAccount.id(), "old1"),
+            accountDocument(renamingAccount.id(), "username5"),
+            accountDocument(swappingAccount.id(), "old5")));
+    when(mongoTemplate.find(argThat(getQueryArgumentMatcher(List.of("username"))),
+        eq(AccountDocument.class)))
+        .thenReturn(Flux.just(accountDocument(firstAccount.id(), "username1"),
+            accountDocument(UUID.randomUUID().toString(), "username3"),
+            accountDocument(renamingAccount.id(), "username5")));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, AccountDocument.class))
+        .thenReturn(bulkOperations);
+    mockSnapshotOutbox();
+    when(bulkOperations.execute()).thenReturn(Mono.just(
+        BulkWriteResult.acknowledged(0, 3, 0, 3, List.of(), List.of())));
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.updateAll(List.of(firstAccount, missingAccount,
+        conflictingAccount, duplicateAccount, renamingAccount, swappingAccount));
+
+    StepVerifier.create(result)
+        .expectNextMatches(item -> item.index() == 0 && item.error() == null)
+        .expectNext(new BulkItemResult(1, missingAccount.id(), ErrorsEnum.ACCOUNT_NOT_FOUND))
+        .expectNext(new BulkItemResult(2, conflictingAccount.id(),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS))
+        .expectNext(new BulkItemResult(3, duplicateAccount.id(),
+            ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS))
+        .expectNextMatches(item -> item.index() == 4 && item.error() == null)
+        .expectNextMatches(item -> item.index() == 5 && item.error() == null)
+        .verifyComplete();
+
+    verify(transactionalOperator, times(1)).transactional(any(Mono.class));
+    verify(mongoTemplate, times(2)).find(any(Query.class), eq(AccountDocument.class));
+    verify(mongoTemplate, times(1)).bulkOps(BulkMode.UNORDERED, AccountDocument.class);
+    verify(bulkOperations, times(3)).updateOne(any(Query.class), any(UpdateDefinition.class));
+    verifySnapshotOutbox(AccountChangeType.UPDATED,
+        List.of(firstAccount.id(), renamingAccount.id(), swappingAccount.id()));
     verifyNoInteractions(accountErrorMapper);
   }
 
@@ -303,10 +712,13 @@ class AccountRepositoryImplTest {
     var accountRepositoryException = new AccountRepositoryException(
         ErrorsEnum.INTERNAL_SERVER_ERROR);
 
-    when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class),
-        eq(AccountDocument.class)))
+    when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+        any(FindAndModifyOptions.class), eq(AccountDocument.class)))
         .thenReturn(Mono.error(mongoException));
-    when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
+    mockMonoTransaction();
+    when(accountErrorMapper.mapMongoError(mongoException,
+        ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS, "username"))
+        .thenReturn(accountRepositoryException);
 
     var result = accountRepositoryImpl.update(accountRequestId, accountRequest);
 
@@ -314,90 +726,264 @@ class AccountRepositoryImplTest {
         .expectError(AccountRepositoryException.class)
         .verify();
 
-    verify(mongoTemplate, times(1))
-        .updateFirst(argThat(getQueryArgumentMatcher(List.of("id"))),
-            argThat(getUpdateDefinitionArgumentMatcher(
-                List.of("username", "password", "firstName", "lastName"))),
-            eq(AccountDocument.class));
-    verify(accountErrorMapper, only()).mapMongoError(mongoException);
+    verify(accountErrorMapper, only()).mapMongoError(mongoException,
+        ErrorsEnum.UPDATE_ACCOUNT_USERNAME_ALREADY_EXISTS, "username");
     verifyNoInteractions(accountDocumentMapper);
   }
 
+  @Test
+  @DisplayName("Update when not found then return empty")
+  void update_whenNotFound_thenReturnEmpty() {
+    var accountRequestId = UUID.randomUUID().toString();
+    var accountRequest = new Account(UUID.randomUUID().toString(), "username", "password",
+        "firstName", "lastName");
+
+    when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+        any(FindAndModifyOptions.class), eq(AccountDocument.class)))
+        .thenReturn(Mono.empty());
+    mockMonoTransaction();
+
+    var result = accountRepositoryImpl.update(accountRequestId, accountRequest);
+
+    StepVerifier.create(result)
+        .verifyComplete();
+
+    verify(mongoTemplate, never()).insertAll(anyList());
+    verifyNoInteractions(accountDocumentMapper, accountErrorMapper);
+  }
+
   @Test
   @DisplayName("Update when success then return expected account")
   void update_whenSuccess_thenReturnExpectedAccount() {
     var accountRequestId = UUID.randomUUID().toString();
     var accountRequest = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
-    var existingAccountDocument = new AccountDocument();
-    var existingAccount = new Account(UUID.randomUUID().toString(), "username", "password",
+    var updatedAccountDocument = new AccountDocument();
+    var updatedAccount = new Account(UUID.randomUUID().toString(), "username", "password",
         "firstName", "lastName");
 
-    when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class),
-        eq(AccountDocument.class)))
-        .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, new BsonTimestamp())));
-    when(mongoTemplate.findById(accountRequestId, AccountDocument.class))
-        .thenReturn(Mono.just(existingAccountDocument));
-    when(accountDocumentMapper.toDomain(existingAccountDocument)).thenReturn(existingAccount);
+    when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+        any(FindAndModifyOptions.class), eq(AccountDocument.class)))
+        .thenReturn(Mono.just(updatedAccountDocument));
+    mockSnapshotOutbox();
+    mockMonoTransaction();
+    when(accountDocumentMapper.toDomain(updatedAccountDocument)).thenReturn(updatedAccount);
 
     var result = accountRepositoryImpl.update(accountRequestId, accountRequest);
 
     StepVerifier.create(result)
-        .expectNext(existingAccount)
+        .expectNext(updatedAccount)
         .verifyComplete();
 
-    verify(mongoTemplate, times(1))
-        .updateFirst(argThat(getQueryArgumentMatcher(List.of("id"))),
+    verify(mongoTemplate)
+        .findAndModify(argThat(getQueryArgumentMatcher(List.of("id"))),
             argThat(getUpdateDefinitionArgumentMatcher(
-                List.of("username", "password", "firstName", "lastName"))),
+                List.of("username", "password", "firstName", "lastName", "updatedAt"))),
+            argThat(FindAndModifyOptions::isReturnNew),
             eq(AccountDocument.class));
-    verify(mongoTemplate, times(1)).findById(accountRequestId, AccountDocument.class);
-    verifyNoMoreInteractions(mongoTemplate);
-    verify(accountDocumentMapper, only()).toDomain(existingAccountDocument);
+    verifySnapshotOutbox(AccountChangeType.UPDATED, List.of(accountRequestId));
+    verify(accountDocumentMapper, only()).toDomain(updatedAccountDocument);
     verifyNoInteractions(accountErrorMapper);
   }
 
   @Test
-  @DisplayName("Delete by id when mongo error then return expected error")
-  void deleteById_whenMongoError_thenReturnExpectedError() {
+  @DisplayName("Find and remove by id when mongo error then return expected error")
+  void findAndRemoveById_whenMongoError_thenReturnExpectedError() {
     var accountId = UUID.randomUUID().toString();
     var mongoException = new MongoException("");
     var accountRepositoryException = new AccountRepositoryException(
         ErrorsEnum.INTERNAL_SERVER_ERROR);
 
-    when(mongoTemplate.remove(any(Query.class), eq(AccountDocument.class)))
+    mockMonoTransaction();
+    when(mongoTemplate.findAndRemove(any(Query.class), eq(AccountDocument.class)))
         .thenReturn(Mono.error(mongoException));
     when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
 
-    var result = accountRepositoryImpl.deleteById(accountId);
+    var result = accountRepositoryImpl.findAndRemoveById(accountId);
 
     StepVerifier.create(result)
         .expectError(AccountRepositoryException.class)
         .verify();
 
-    verify(mongoTemplate, only()).remove(argThat(getQueryArgumentMatcher(List.of("id"))),
-        eq(AccountDocument.class));
+    verify(mongoTemplate, only()).findAndRemove(
+        argThat(getQueryArgumentMatcher(List.of("id"))), eq(AccountDocument.class));
     verify(accountErrorMapper, only()).mapMongoError(mongoException);
-    verifyNoInteractions(accountDocumentMapper);
+    verifyNoInteractions(accountDocumentMapper, deleteAccountOutboxMapper,
+        accountTombstoneMapper);
   }
 
   @Test
-  @DisplayName("Delete by id when success then return expected account")
-  void deleteById_whenSuccess_thenReturnExpectedAccount() {
+  @DisplayName("Find and remove by id when not found then return empty")
+  void findAndRemoveById_whenNotFound_thenReturnEmpty() {
     var accountId = UUID.randomUUID().toString();
 
-    when(mongoTemplate.remove(any(Query.class), eq(AccountDocument.class)))
+    mockMonoTransaction();
+    when(mongoTemplate.findAndRemove(any(Query.class), eq(AccountDocument.class)))
         .thenReturn(Mono.empty());
 
-    var result = accountRepositoryImpl.deleteById(accountId);
+    var result = accountRepositoryImpl.findAndRemoveById(accountId);
 
     StepVerifier.create(result)
         .verifyComplete();
 
-    verify(mongoTemplate, only()).remove(argThat(getQueryArgumentMatcher(List.of("id"))),
-        eq(AccountDocument.class));
     verifyNoInteractions(accountDocumentMapper);
     verifyNoInteractions(accountErrorMapper);
+    verifyNoInteractions(deleteAccountOutboxMapper);
+    verifyNoInteractions(accountTombstoneMapper);
+  }
+
+  @Test
+  @DisplayName("Find and remove by id when success then write outbox, tombstone and return removed")
+  void findAndRemoveById_whenSuccess_thenWriteOutboxTombstoneAndReturnRemoved() {
+    var accountId = UUID.randomUUID().toString();
+    var removedAccountDocument = new AccountDocument();
+    var outboxDocument = new DeleteAccountOutboxDocument();
+    var tombstoneDocument = new AccountTombstoneDocument();
+    var removedAccount = new Account(accountId, "username", "password", "firstName",
+        "lastName");
+
+    mockMonoTransaction();
+    when(mongoTemplate.findAndRemove(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Mono.just(removedAccountDocument));
+    when(deleteAccountOutboxMapper.toOutbox(removedAccountDocument)).thenReturn(outboxDocument);
+    when(mongoTemplate.insert(outboxDocument)).thenReturn(Mono.just(outboxDocument));
+    when(accountTombstoneMapper.toTombstone(eq(removedAccountDocument), any(Instant.class)))
+        .thenReturn(tombstoneDocument);
+    when(mongoTemplate.insert(tombstoneDocument)).thenReturn(Mono.just(tombstoneDocument));
+    when(mongoTemplate.insert(any(AccountSnapshotOutboxDocument.class)))
+        .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    when(accountDocumentMapper.toDomain(removedAccountDocument)).thenReturn(removedAccount);
+
+    var result = accountRepositoryImpl.findAndRemoveById(accountId);
+
+    StepVerifier.create(result)
+        .expectNext(removedAccount)
+        .verifyComplete();
+
+    verify(mongoTemplate).findAndRemove(
+        argThat(getQueryArgumentMatcher(List.of("id"))), eq(AccountDocument.class));
+    verify(mongoTemplate).insert(outboxDocument);
+    verify(mongoTemplate).insert(tombstoneDocument);
+    verify(mongoTemplate).insert(argThat((Object document) ->
+        document instanceof AccountSnapshotOutboxDocument event
+            && event.getType() == AccountChangeType.DELETED));
+    verify(accountTombstoneMapper).toTombstone(removedAccountDocument,
+        removedAccountDocument.getUpdatedAt());
+    verify(accountDocumentMapper, only()).toDomain(removedAccountDocument);
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Find all and remove by id when success then write outbox, tombstones and return")
+  void findAllAndRemoveById_whenSuccess_thenWriteOutboxTombstonesAndReturnRemoved() {
+    var accountId = UUID.randomUUID().toString();
+    var removedAccountDocument = new AccountDocument();
+    var outboxDocument = new DeleteAccountOutboxDocument();
+    var tombstoneDocument = new AccountTombstoneDocument();
+    var removedAccount = new Account(accountId, "username", "password", "firstName",
+        "lastName");
+
+    mockFluxTransaction();
+    when(mongoTemplate.findAllAndRemove(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.just(removedAccountDocument));
+    when(deleteAccountOutboxMapper.toOutbox(removedAccountDocument)).thenReturn(outboxDocument);
+    when(mongoTemplate.insertAll(List.of(outboxDocument))).thenReturn(Flux.just(outboxDocument));
+    when(accountTombstoneMapper.toTombstone(eq(removedAccountDocument), any(Instant.class)))
+        .thenReturn(tombstoneDocument);
+    when(mongoTemplate.insertAll(List.of(tombstoneDocument)))
+        .thenReturn(Flux.just(tombstoneDocument));
+    when(mongoTemplate.<Object>insertAll(argThat((List<?> events) ->
+        events.size() == 1 && events.get(0) instanceof AccountSnapshotOutboxDocument)))
+        .thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+    when(accountDocumentMapper.toDomain(removedAccountDocument)).thenReturn(removedAccount);
+
+    var result = accountRepositoryImpl.findAllAndRemoveById(List.of(accountId));
+
+    StepVerifier.create(result)
+        .expectNext(removedAccount)
+        .verifyComplete();
+
+    verify(mongoTemplate).findAllAndRemove(
+        argThat(getQueryArgumentMatcher(List.of("id"))), eq(AccountDocument.class));
+    verify(mongoTemplate).insertAll(List.of(outboxDocument));
+    verify(mongoTemplate).insertAll(List.of(tombstoneDocument));
+    verify(mongoTemplate).<Object>insertAll(argThat((List<?> events) ->
+        events.size() == 1 && events.get(0) instanceof AccountSnapshotOutboxDocument event
+            && event.getType() == AccountChangeType.DELETED));
+    verify(accountTombstoneMapper).toTombstone(removedAccountDocument,
+        removedAccountDocument.getUpdatedAt());
+    verifyNoInteractions(accountErrorMapper);
+  }
+
+  @Test
+  @DisplayName("Find all and remove by id when nothing removed then skip outbox")
+  void findAllAndRemoveById_whenNothingRemoved_thenSkipOutbox() {
+    mockFluxTransaction();
+    when(mongoTemplate.findAllAndRemove(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.empty());
+
+    var result = accountRepositoryImpl.findAllAndRemoveById(
+        List.of(UUID.randomUUID().toString()));
+
+    StepVerifier.create(result)
+        .verifyComplete();
+
+    verify(mongoTemplate, only()).findAllAndRemove(
+        argThat(getQueryArgumentMatcher(List.of("id"))), eq(AccountDocument.class));
+    verifyNoInteractions(deleteAccountOutboxMapper, accountTombstoneMapper,
+        accountDocumentMapper);
+  }
+
+  @Test
+  @DisplayName("Find all and remove by id when mongo error then return expected error")
+  void findAllAndRemoveById_whenMongoError_thenReturnExpectedError() {
+    var mongoException = new MongoException("");
+    var accountRepositoryException = new AccountRepositoryException(
+        ErrorsEnum.INTERNAL_SERVER_ERROR);
+
+    mockFluxTransaction();
+    when(mongoTemplate.findAllAndRemove(any(Query.class), eq(AccountDocument.class)))
+        .thenReturn(Flux.error(mongoException));
+    when(accountErrorMapper.mapMongoError(mongoException)).thenReturn(accountRepositoryException);
+
+    var result = accountRepositoryImpl.findAllAndRemoveById(
+        List.of(UUID.randomUUID().toString()));
+
+    StepVerifier.create(result)
+        .expectError(AccountRepositoryException.class)
+        .verify();
+
+    verifyNoInteractions(accountDocumentMapper);
+  }
+
+  private AccountDocument accountDocument(final String id, final String username) {
+    var accountDocument = new AccountDocument();
+    accountDocument.setId(id);
+    accountDocument.setUsername(username);
+    return accountDocument;
+  }
+
+  private void mockSnapshotOutbox() {
+    when(mongoTemplate.insertAll(anyList()))
+        .thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+  }
+
+  private void verifySnapshotOutbox(final AccountChangeType type, final List<String> accountIds) {
+    verify(mongoTemplate).insertAll(argThat((List<AccountSnapshotOutboxDocument> events) ->
+        accountIds.equals(events.stream().map(AccountSnapshotOutboxDocument::getAccountId).toList())
+            && events.stream().allMatch(event -> event.getType() == type)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockMonoTransaction() {
+    when(transactionalOperator.transactional(any(Mono.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockFluxTransaction() {
+    when(transactionalOperator.transactional(any(Flux.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
   }
 
   private ArgumentMatcher<Query> getQueryArgumentMatcher(final List<String> keys) {
@@ -405,6 +991,24 @@ class AccountRepositoryImplTest {
         .allMatch(key -> query.getQueryObject().containsKey(key));
   }
 
+  private ArgumentMatcher<Query> getPageQueryArgumentMatcher(final boolean hasAfter,
+      final int limit) {
+    return query -> query.getQueryObject().containsKey("id") == hasAfter
+        && query.getSortObject().containsKey("id")
+        && query.getLimit() == limit
+        && getProjectionArgumentMatcher(AccountField.ALL).matches(query);
+  }
+
+  private ArgumentMatcher<Query> getProjectionArgumentMatcher(final Set<AccountField> fields) {
+    return query -> {
+      var projection = query.getFieldsObject();
+
+      return !projection.containsKey("password")
+          && !projection.containsKey("version")
+          && fields.stream().allMatch(field -> projection.containsKey(field.getFieldName()));
+    };
+  }
+
   private ArgumentMatcher<UpdateDefinition> getUpdateDefinitionArgumentMatcher(
       final List<String> keys) {
     return updateDefinition -> {
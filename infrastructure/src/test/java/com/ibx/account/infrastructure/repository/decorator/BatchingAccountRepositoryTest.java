@@ -0,0 +1,119 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.errors.ErrorsEnum;
+import com.ibx.account.domain.model.exception.AccountRepositoryException;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingAccountRepositoryTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private BatchingAccountRepository batchingAccountRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    batchingAccountRepository = new BatchingAccountRepository(accountRepository, meterRegistry,
+        3, Duration.ofSeconds(10));
+  }
+
+  @Test
+  @DisplayName("Find by id when batch is full then resolve every lookup with one query")
+  void findById_whenBatchIsFull_thenResolveEveryLookupWithOneQuery() {
+    var firstAccount = buildAccount();
+    var secondAccount = buildAccount();
+    var missingId = UUID.randomUUID().toString();
+    var ids = List.of(firstAccount.id(), secondAccount.id(), missingId);
+
+    when(accountRepository.findAllById(anyCollection(), eq(AccountField.ALL)))
+        .thenReturn(Flux.just(secondAccount, firstAccount));
+
+    var result = Flux.fromIterable(ids)
+        .flatMapSequential(id -> batchingAccountRepository.findById(id, AccountField.ALL)
+            .map(Account::id)
+            .defaultIfEmpty("missing"));
+
+    StepVerifier.create(result)
+        .expectNext(firstAccount.id(), secondAccount.id(), "missing")
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+
+    verify(accountRepository, only()).findAllById(
+        argThat(batchIds -> batchIds.size() == 3 && batchIds.containsAll(ids)),
+        eq(AccountField.ALL));
+    assertEquals(3.0, meterRegistry.get("account.find-by-id.batch.size")
+        .summary().totalAmount());
+    assertEquals(3, meterRegistry.get("account.find-by-id.batch.wait").timer().count());
+  }
+
+  @Test
+  @DisplayName("Find by id when max wait elapses then resolve partial batch")
+  void findById_whenMaxWaitElapses_thenResolvePartialBatch() {
+    var account = buildAccount();
+    batchingAccountRepository = new BatchingAccountRepository(accountRepository, meterRegistry,
+        100, Duration.ofMillis(10));
+
+    when(accountRepository.findAllById(List.of(account.id()), AccountField.ALL))
+        .thenReturn(Flux.just(account));
+
+    StepVerifier.create(batchingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  @DisplayName("Find by id when query fails then fail every lookup in the batch")
+  void findById_whenQueryFails_thenFailEveryLookupInTheBatch() {
+    var fields = Set.of(AccountField.USERNAME);
+    batchingAccountRepository = new BatchingAccountRepository(accountRepository, meterRegistry,
+        2, Duration.ofSeconds(10));
+
+    when(accountRepository.findAllById(anyCollection(), eq(fields)))
+        .thenReturn(Flux.error(new AccountRepositoryException(ErrorsEnum.INTERNAL_SERVER_ERROR)));
+
+    var result = Mono.zipDelayError(
+        batchingAccountRepository.findById(UUID.randomUUID().toString(), fields)
+            .onErrorReturn(AccountRepositoryException.class, buildAccount()).hasElement(),
+        batchingAccountRepository.findById(UUID.randomUUID().toString(), fields)
+            .onErrorReturn(AccountRepositoryException.class, buildAccount()).hasElement());
+
+    StepVerifier.create(result)
+        .expectNextMatches(results -> results.getT1() && results.getT2())
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  private Account buildAccount() {
+    return new Account(UUID.randomUUID().toString(), "username", null, "firstName", "lastName");
+  }
+
+}
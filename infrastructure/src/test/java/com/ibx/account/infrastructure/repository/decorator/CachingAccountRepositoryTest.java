@@ -0,0 +1,251 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAccountRepositoryTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private CachingAccountRepository cachingAccountRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    cachingAccountRepository = new CachingAccountRepository(accountRepository, meterRegistry,
+        100, Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("Find by id when cached then return cached account")
+  void findById_whenCached_thenReturnCachedAccount() {
+    var account = buildAccount("username");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account));
+
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, only()).findById(account.id(), AccountField.ALL);
+    assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit")
+        .functionCounter().count());
+    assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss")
+        .functionCounter().count());
+  }
+
+  @Test
+  @DisplayName("Find by id when not found then does not cache")
+  void findById_whenNotFound_thenDoesNotCache() {
+    var accountId = UUID.randomUUID().toString();
+
+    when(accountRepository.findById(accountId, AccountField.ALL)).thenReturn(Mono.empty());
+
+    StepVerifier.create(cachingAccountRepository.findById(accountId, AccountField.ALL))
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findById(accountId, AccountField.ALL))
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(accountId, AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Find by id when partial fields then does not cache")
+  void findById_whenPartialFields_thenDoesNotCache() {
+    var account = buildAccount("username");
+    var fields = Set.of(AccountField.ID, AccountField.USERNAME);
+
+    when(accountRepository.findById(account.id(), fields)).thenReturn(Mono.just(account));
+
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), fields))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), fields))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), fields);
+  }
+
+  @Test
+  @DisplayName("Update when success then write through updated account")
+  void update_whenSuccess_thenWriteThroughUpdatedAccount() {
+    var account = buildAccount("username");
+    var updatedAccount = new Account(account.id(), "updated", "password", "firstName",
+        "lastName");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account));
+    when(accountRepository.update(account.id(), updatedAccount))
+        .thenReturn(Mono.just(updatedAccount));
+
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.update(account.id(), updatedAccount))
+        .expectNext(updatedAccount)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(new Account(account.id(), "updated", null, "firstName", "lastName"))
+        .verifyComplete();
+
+    verify(accountRepository, times(1)).findById(account.id(), AccountField.ALL);
+    verify(accountRepository, times(1)).update(account.id(), updatedAccount);
+    verifyNoMoreInteractions(accountRepository);
+  }
+
+  @Test
+  @DisplayName("Find and remove by id when success then invalidate cached account")
+  void findAndRemoveById_whenSuccess_thenInvalidateCachedAccount() {
+    var account = buildAccount("username");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account))
+        .thenReturn(Mono.empty());
+    when(accountRepository.findAndRemoveById(account.id())).thenReturn(Mono.just(account));
+
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findAndRemoveById(account.id()))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+    verify(accountRepository, times(1)).findAndRemoveById(account.id());
+  }
+
+  @Test
+  @DisplayName("Find all and remove by id when success then invalidate cached accounts")
+  void findAllAndRemoveById_whenSuccess_thenInvalidateCachedAccounts() {
+    var account = buildAccount("username");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account))
+        .thenReturn(Mono.empty());
+    when(accountRepository.findAllAndRemoveById(List.of(account.id())))
+        .thenReturn(Flux.just(account));
+
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findAllAndRemoveById(List.of(account.id())))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Invalidate all when remote write then evict cached accounts")
+  void invalidateAll_whenRemoteWrite_thenEvictCachedAccounts() {
+    var account = buildAccount("username");
+    var updatedAccount = new Account(account.id(), "updated", null, "firstName", "lastName");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account))
+        .thenReturn(Mono.just(updatedAccount));
+
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    cachingAccountRepository.invalidateAll(Set.of(account.id()));
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(updatedAccount)
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Find by id when write while in flight then does not cache stale account")
+  void findById_whenWriteWhileInFlight_thenDoesNotCacheStaleAccount() {
+    var account = buildAccount("username");
+    var staleLookup = Sinks.<Account>one();
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(staleLookup.asMono())
+        .thenReturn(Mono.empty());
+    when(accountRepository.findAndRemoveById(account.id())).thenReturn(Mono.just(account));
+
+    var inFlightLookup = cachingAccountRepository.findById(account.id(), AccountField.ALL)
+        .toFuture();
+    StepVerifier.create(cachingAccountRepository.findAndRemoveById(account.id()))
+        .expectNext(account)
+        .verifyComplete();
+    staleLookup.tryEmitValue(account);
+
+    assertEquals(account, inFlightLookup.join());
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Find by id when other account written while in flight then caches account")
+  void findById_whenOtherAccountWrittenWhileInFlight_thenCachesAccount() {
+    var account = buildAccount("username");
+    var otherAccount = buildAccount("other");
+    var lookup = Sinks.<Account>one();
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(lookup.asMono());
+    when(accountRepository.findAndRemoveById(otherAccount.id()))
+        .thenReturn(Mono.just(otherAccount));
+
+    var inFlightLookup = cachingAccountRepository.findById(account.id(), AccountField.ALL)
+        .toFuture();
+    StepVerifier.create(cachingAccountRepository.findAndRemoveById(otherAccount.id()))
+        .expectNext(otherAccount)
+        .verifyComplete();
+    lookup.tryEmitValue(account);
+
+    assertEquals(account, inFlightLookup.join());
+    StepVerifier.create(cachingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, times(1)).findById(account.id(), AccountField.ALL);
+  }
+
+  private Account buildAccount(final String username) {
+    return new Account(UUID.randomUUID().toString(), username, null, "firstName", "lastName");
+  }
+
+}
@@ -0,0 +1,91 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingAccountRepositoryTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private CoalescingAccountRepository coalescingAccountRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    coalescingAccountRepository = new CoalescingAccountRepository(accountRepository,
+        meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Find by id when lookup is in flight then share it")
+  void findById_whenLookupIsInFlight_thenShareIt() {
+    var account = buildAccount();
+    Sinks.One<Account> lookup = Sinks.one();
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(lookup.asMono());
+
+    var first = coalescingAccountRepository.findById(account.id(), AccountField.ALL).toFuture();
+    var second = coalescingAccountRepository.findById(account.id(), AccountField.ALL).toFuture();
+    lookup.tryEmitValue(account);
+
+    assertEquals(account, first.join());
+    assertEquals(account, second.join());
+    verify(accountRepository).findById(account.id(), AccountField.ALL);
+    assertEquals(1.0, counter("executed"));
+    assertEquals(1.0, counter("coalesced"));
+  }
+
+  @Test
+  @DisplayName("Find by id when lookup completed then execute it again")
+  void findById_whenLookupCompleted_thenExecuteItAgain() {
+    var account = buildAccount();
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account));
+
+    StepVerifier.create(coalescingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(coalescingAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+    assertEquals(2.0, counter("executed"));
+    assertEquals(0.0, counter("coalesced"));
+  }
+
+  private double counter(final String result) {
+    return meterRegistry.get("account.lookup.coalescing")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private Account buildAccount() {
+    return new Account(UUID.randomUUID().toString(), "username", null, "firstName", "lastName");
+  }
+
+}
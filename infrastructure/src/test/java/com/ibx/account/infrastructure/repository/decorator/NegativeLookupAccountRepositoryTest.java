@@ -0,0 +1,134 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeLookupAccountRepositoryTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private NegativeLookupAccountRepository negativeLookupAccountRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    negativeLookupAccountRepository = new NegativeLookupAccountRepository(accountRepository,
+        meterRegistry, 100, Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("Find by id when known missing then answer from memory")
+  void findById_whenKnownMissing_thenAnswerFromMemory() {
+    var accountId = UUID.randomUUID().toString();
+
+    when(accountRepository.findById(accountId, AccountField.ALL)).thenReturn(Mono.empty());
+
+    StepVerifier.create(negativeLookupAccountRepository.findById(accountId, AccountField.ALL))
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.findById(accountId, AccountField.ALL))
+        .verifyComplete();
+
+    verify(accountRepository, only()).findById(accountId, AccountField.ALL);
+    assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit")
+        .functionCounter().count());
+  }
+
+  @Test
+  @DisplayName("Find by id when found then does not remember")
+  void findById_whenFound_thenDoesNotRemember() {
+    var account = new Account(UUID.randomUUID().toString(), "username", "password",
+        "firstName", "lastName");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL)).thenReturn(Mono.just(account));
+
+    StepVerifier.create(negativeLookupAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Save when known missing then forget saved id")
+  void save_whenKnownMissing_thenForgetSavedId() {
+    var account = new Account(UUID.randomUUID().toString(), "username", "password",
+        "firstName", "lastName");
+
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.empty())
+        .thenReturn(Mono.just(account));
+    when(accountRepository.save(account)).thenReturn(Mono.just(account));
+
+    StepVerifier.create(negativeLookupAccountRepository.findById(account.id(), AccountField.ALL))
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.save(account))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, times(2)).findById(account.id(), AccountField.ALL);
+    verify(accountRepository, times(1)).save(account);
+  }
+
+  @Test
+  @DisplayName("Find and remove by id when known missing then answer from memory")
+  void findAndRemoveById_whenKnownMissing_thenAnswerFromMemory() {
+    var accountId = UUID.randomUUID().toString();
+
+    when(accountRepository.findById(accountId, AccountField.ALL)).thenReturn(Mono.empty());
+
+    StepVerifier.create(negativeLookupAccountRepository.findById(accountId, AccountField.ALL))
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.findAndRemoveById(accountId))
+        .verifyComplete();
+
+    verify(accountRepository, only()).findById(accountId, AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Find and remove by id when removed then remember id as missing")
+  void findAndRemoveById_whenRemoved_thenRememberIdAsMissing() {
+    var account = new Account(UUID.randomUUID().toString(), "username", "password",
+        "firstName", "lastName");
+
+    when(accountRepository.findAndRemoveById(account.id())).thenReturn(Mono.just(account));
+
+    StepVerifier.create(negativeLookupAccountRepository.findAndRemoveById(account.id()))
+        .expectNext(account)
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.findById(account.id(), AccountField.ALL))
+        .verifyComplete();
+    StepVerifier.create(negativeLookupAccountRepository.findAndRemoveById(account.id()))
+        .verifyComplete();
+
+    verify(accountRepository, only()).findAndRemoveById(account.id());
+  }
+
+}
@@ -0,0 +1,161 @@
+package com.ibx.account.infrastructure.repository.decorator;
+
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.domain.model.AccountField;
+import com.ibx.account.domain.model.BulkItemResult;
+import com.ibx.account.domain.repository.AccountRepository;
+import com.ibx.account.infrastructure.repository.replica.AccountReplica;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaAccountRepositoryTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private AccountReplica accountReplica;
+
+  private ReplicaAccountRepository replicaAccountRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    replicaAccountRepository = new ReplicaAccountRepository(accountRepository, accountReplica,
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("Find by id when replica ready and hit then skip repository")
+  void findById_whenReplicaReadyAndHit_thenSkipRepository() {
+    var account = buildAccount();
+
+    when(accountReplica.isReady()).thenReturn(true);
+    when(accountReplica.findById(account.id())).thenReturn(account);
+
+    StepVerifier.create(replicaAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verifyNoInteractions(accountRepository);
+  }
+
+  @Test
+  @DisplayName("Find by id when replica ready and miss then query repository")
+  void findById_whenReplicaReadyAndMiss_thenQueryRepository() {
+    var account = buildAccount();
+
+    when(accountReplica.isReady()).thenReturn(true);
+    when(accountRepository.findById(account.id(), AccountField.ALL))
+        .thenReturn(Mono.just(account));
+
+    StepVerifier.create(replicaAccountRepository.findById(account.id(), AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountRepository, only()).findById(account.id(), AccountField.ALL);
+  }
+
+  @Test
+  @DisplayName("Find all when replica not complete then query repository")
+  void findAll_whenReplicaNotComplete_thenQueryRepository() {
+    var account = buildAccount();
+
+    when(accountReplica.isComplete()).thenReturn(false);
+    when(accountRepository.findAll(null, 10, AccountField.ALL)).thenReturn(Flux.just(account));
+
+    StepVerifier.create(replicaAccountRepository.findAll(null, 10, AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountReplica, only()).isComplete();
+  }
+
+  @Test
+  @DisplayName("Find all when replica complete then serve page from replica")
+  void findAll_whenReplicaComplete_thenServePageFromReplica() {
+    var account = buildAccount();
+
+    when(accountReplica.isComplete()).thenReturn(true);
+    when(accountReplica.findAll("after", 10)).thenReturn(List.of(account));
+
+    StepVerifier.create(replicaAccountRepository.findAll("after", 10, AccountField.ALL))
+        .expectNext(account)
+        .verifyComplete();
+
+    verifyNoInteractions(accountRepository);
+  }
+
+  @Test
+  @DisplayName("Find all by id when some missing then query repository for missing only")
+  void findAllById_whenSomeMissing_thenQueryRepositoryForMissingOnly() {
+    var cached = buildAccount();
+    var missing = buildAccount();
+
+    when(accountReplica.isReady()).thenReturn(true);
+    when(accountReplica.findById(cached.id())).thenReturn(cached);
+    when(accountRepository.findAllById(List.of(missing.id()), AccountField.ALL))
+        .thenReturn(Flux.just(missing));
+
+    StepVerifier.create(replicaAccountRepository.findAllById(
+            List.of(cached.id(), missing.id()), AccountField.ALL))
+        .expectNext(cached, missing)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Save all when created then put accounts with generated ids")
+  void saveAll_whenCreated_thenPutAccountsWithGeneratedIds() {
+    var account = new Account(null, "username", "password", "firstName", "lastName");
+    var id = UUID.randomUUID().toString();
+    var createdAt = Instant.now();
+
+    when(accountRepository.saveAll(List.of(account)))
+        .thenReturn(Flux.just(BulkItemResult.created(0, id, createdAt)));
+
+    StepVerifier.create(replicaAccountRepository.saveAll(List.of(account)))
+        .expectNext(BulkItemResult.created(0, id, createdAt))
+        .verifyComplete();
+
+    verify(accountReplica, only()).put(
+        new Account(id, "username", null, "firstName", "lastName", createdAt));
+  }
+
+  @Test
+  @DisplayName("Find and remove by id when removed then remove from replica")
+  void findAndRemoveById_whenRemoved_thenRemoveFromReplica() {
+    var deletedAt = Instant.now();
+    var account = new Account(UUID.randomUUID().toString(), "username", null, "firstName",
+        "lastName", deletedAt);
+
+    when(accountRepository.findAndRemoveById(account.id())).thenReturn(Mono.just(account));
+
+    StepVerifier.create(replicaAccountRepository.findAndRemoveById(account.id()))
+        .expectNext(account)
+        .verifyComplete();
+
+    verify(accountReplica, only()).remove(account.id(), deletedAt);
+  }
+
+  private Account buildAccount() {
+    return new Account(UUID.randomUUID().toString(), "username", null, "firstName",
+        "lastName");
+  }
+
+}
@@ -0,0 +1,248 @@
+package com.ibx.account.infrastructure.repository.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.ibx.account.domain.model.Account;
+import com.ibx.account.infrastructure.messaging.AccountEventSerializer;
+import com.ibx.account.infrastructure.messaging.AccountSnapshotKafkaProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class AccountReplicaTest {
+
+  private static final String TOPIC = "account.snapshot.topic";
+
+  private static final String CONTROL_TOPIC = "account.snapshot.control.topic";
+
+  private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+  private static final TopicPartition CONTROL_PARTITION = new TopicPartition(CONTROL_TOPIC, 0);
+
+  private static final long MAX_LAG = 1;
+
+  @Mock
+  private ConsumerFactory<String, byte[]> consumerFactory;
+
+  @Mock
+  private AccountEventSerializer accountEventSerializer;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private MockConsumer<String, byte[]> consumer;
+
+  private AccountReplica accountReplica;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    consumer.updatePartitions(TOPIC, List.of(
+        new PartitionInfo(TOPIC, 0, null, null, null)));
+    consumer.updatePartitions(CONTROL_TOPIC, List.of(
+        new PartitionInfo(CONTROL_TOPIC, 0, null, null, null)));
+    consumer.updateBeginningOffsets(Map.of(PARTITION, 0L, CONTROL_PARTITION, 0L));
+    consumer.updateEndOffsets(Map.of(CONTROL_PARTITION, 0L));
+    accountReplica = new AccountReplica(consumerFactory, accountEventSerializer, meterRegistry,
+        TOPIC, CONTROL_TOPIC, Duration.ZERO, MAX_LAG);
+  }
+
+  @Test
+  @DisplayName("Poll when topic fully read then replica is ready")
+  void poll_whenTopicFullyRead_thenReplicaIsReady() throws IOException {
+    byte[] snapshot = {1};
+
+    when(accountEventSerializer.deserialize(snapshot)).thenReturn(
+        new Account(null, "username", null, "firstName", "lastName"));
+
+    consumer.updateEndOffsets(Map.of(PARTITION, 1L));
+    accountReplica.seekToBeginning(consumer);
+
+    assertFalse(accountReplica.isReady());
+
+    consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "id", snapshot));
+    accountReplica.poll(consumer);
+
+    assertTrue(accountReplica.isReady());
+    assertEquals(new Account("id", "username", null, "firstName", "lastName"),
+        accountReplica.findById("id"));
+    assertEquals(0, meterRegistry.get("account.replica.lag").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Poll when topic not fully read then replica is not ready")
+  void poll_whenTopicNotFullyRead_thenReplicaIsNotReady() {
+    consumer.updateEndOffsets(Map.of(PARTITION, 5L));
+    accountReplica.seekToBeginning(consumer);
+
+    accountReplica.poll(consumer);
+
+    assertFalse(accountReplica.isReady());
+    assertEquals(5, meterRegistry.get("account.replica.lag").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Poll when backfill marker read then replica is complete")
+  void poll_whenBackfillMarkerRead_thenReplicaIsComplete() {
+    consumer.updateEndOffsets(Map.of(PARTITION, 1L));
+    accountReplica.seekToBeginning(consumer);
+    consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "id", null));
+    accountReplica.poll(consumer);
+
+    assertTrue(accountReplica.isReady());
+    assertFalse(accountReplica.isComplete());
+
+    consumer.updateEndOffsets(Map.of(CONTROL_PARTITION, 1L));
+    consumer.addRecord(new ConsumerRecord<>(CONTROL_TOPIC, 0, 0,
+        AccountSnapshotKafkaProducer.BACKFILL_COMPLETED_KEY, new byte[] {1}));
+    accountReplica.poll(consumer);
+
+    assertTrue(accountReplica.isComplete());
+    assertNull(accountReplica.findById(AccountSnapshotKafkaProducer.BACKFILL_COMPLETED_KEY));
+  }
+
+  @Test
+  @DisplayName("Poll when snapshots behind backfill marker then complete once caught up")
+  void poll_whenSnapshotsBehindBackfillMarker_thenCompleteOnceCaughtUp() throws IOException {
+    var otherPartition = new TopicPartition(TOPIC, 1);
+    byte[] snapshot = {1};
+
+    when(accountEventSerializer.deserialize(snapshot)).thenReturn(
+        new Account(null, "username", null, "firstName", "lastName"));
+
+    consumer.updatePartitions(TOPIC, List.of(
+        new PartitionInfo(TOPIC, 0, null, null, null),
+        new PartitionInfo(TOPIC, 1, null, null, null)));
+    consumer.updateBeginningOffsets(Map.of(otherPartition, 0L));
+    consumer.updateEndOffsets(Map.of(PARTITION, 0L, otherPartition, 2L, CONTROL_PARTITION, 1L));
+    accountReplica.seekToBeginning(consumer);
+    consumer.addRecord(new ConsumerRecord<>(CONTROL_TOPIC, 0, 0,
+        AccountSnapshotKafkaProducer.BACKFILL_COMPLETED_KEY, new byte[] {1}));
+    consumer.addRecord(new ConsumerRecord<>(TOPIC, 1, 0, "first", snapshot));
+    accountReplica.poll(consumer);
+
+    assertFalse(accountReplica.isComplete());
+
+    consumer.addRecord(new ConsumerRecord<>(TOPIC, 1, 1, "second", snapshot));
+    accountReplica.poll(consumer);
+
+    assertTrue(accountReplica.isComplete());
+    assertEquals(new Account("second", "username", null, "firstName", "lastName"),
+        accountReplica.findById("second"));
+  }
+
+  @Test
+  @DisplayName("Poll when tombstone then remove account")
+  void poll_whenTombstone_thenRemoveAccount() {
+    accountReplica.put(new Account("id", "username", "password", "firstName", "lastName"));
+
+    consumer.updateEndOffsets(Map.of(PARTITION, 1L));
+    accountReplica.seekToBeginning(consumer);
+    consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "id", null));
+    accountReplica.poll(consumer);
+
+    assertNull(accountReplica.findById("id"));
+  }
+
+  @Test
+  @DisplayName("Poll when snapshot older than local write then keep local write")
+  void poll_whenSnapshotOlderThanLocalWrite_thenKeepLocalWrite() throws IOException {
+    var updatedAt = Instant.now();
+    var localAccount = new Account("id", "updated", null, "firstName", "lastName", updatedAt);
+    byte[] snapshot = {1};
+
+    when(accountEventSerializer.deserialize(snapshot)).thenReturn(
+        new Account(null, "username", null, "firstName", "lastName"));
+
+    accountReplica.put(localAccount);
+
+    consumer.updateEndOffsets(Map.of(PARTITION, 2L));
+    accountReplica.seekToBeginning(consumer);
+    consumer.addRecord(buildRecord(0, "id", snapshot, updatedAt.minusSeconds(1)));
+    consumer.addRecord(buildRecord(1, "id", null, updatedAt.minusSeconds(1)));
+    accountReplica.poll(consumer);
+
+    assertEquals(localAccount, accountReplica.findById("id"));
+  }
+
+  @Test
+  @DisplayName("Poll when snapshot older than local delete then keep account deleted")
+  void poll_whenSnapshotOlderThanLocalDelete_thenKeepAccountDeleted() throws IOException {
+    var deletedAt = Instant.now();
+    byte[] snapshot = {1};
+
+    when(accountEventSerializer.deserialize(snapshot)).thenReturn(
+        new Account(null, "username", null, "firstName", "lastName"));
+
+    accountReplica.put(new Account("id", "username", null, "firstName", "lastName",
+        deletedAt.minusSeconds(2)));
+    accountReplica.remove("id", deletedAt);
+
+    consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+    accountReplica.seekToBeginning(consumer);
+    consumer.addRecord(buildRecord(0, "id", snapshot, deletedAt.minusSeconds(1)));
+    accountReplica.poll(consumer);
+
+    assertNull(accountReplica.findById("id"));
+
+    consumer.addRecord(buildRecord(1, "id", null, deletedAt));
+    consumer.addRecord(buildRecord(2, "id", snapshot, deletedAt.plusSeconds(1)));
+    accountReplica.poll(consumer);
+
+    assertEquals(new Account("id", "username", null, "firstName", "lastName",
+        deletedAt.plusSeconds(1)), accountReplica.findById("id"));
+  }
+
+  @Test
+  @DisplayName("Put when password given then keep account without password")
+  void put_whenPasswordGiven_thenKeepAccountWithoutPassword() {
+    accountReplica.put(new Account("id", "username", "password", "firstName", "lastName"));
+
+    assertEquals(new Account("id", "username", null, "firstName", "lastName"),
+        accountReplica.findById("id"));
+  }
+
+  @Test
+  @DisplayName("Find all when after given then return next page in id order")
+  void findAll_whenAfterGiven_thenReturnNextPageInIdOrder() {
+    List.of("c", "a", "d", "b").forEach(id -> accountReplica.put(
+        new Account(id, "username-" + id, null, "firstName", "lastName")));
+
+    assertEquals(List.of("a", "b"), accountReplica.findAll(null, 2).stream()
+        .map(Account::id)
+        .toList());
+    assertEquals(List.of("c", "d"), accountReplica.findAll("b", 2).stream()
+        .map(Account::id)
+        .toList());
+  }
+
+  private ConsumerRecord<String, byte[]> buildRecord(final long offset, final String key,
+      final byte[] value, final Instant changedAt) {
+    var snapshot = new ConsumerRecord<>(TOPIC, 0, offset, key, value);
+    snapshot.headers().add(AccountSnapshotKafkaProducer.CHANGED_AT_HEADER,
+        changedAt.toString().getBytes(StandardCharsets.UTF_8));
+    return snapshot;
+  }
+
+}